@@ -502,6 +502,16 @@ public interface BedWars {
          */
         IShopCache getShopCache();
 
+        /**
+         * Retrieves the shop cache of a player.
+         *
+         * @param player the player UUID
+         * @return the player shop cache, or null if the player has none
+         */
+        default IShopCache getShopCache(UUID player) {
+            return getShopCache().getShopCache(player);
+        }
+
         /**
          * Retrieves the player quick buy cache instance.
          *
@@ -537,9 +537,20 @@ public interface IArena {
      * Get a list of placed blocks in the arena.
      *
      * @return A linked list of vectors representing the locations of the placed blocks.
+     * @deprecated returns a copy of the placed blocks index, changes to the list are not reflected in the arena.
+     * Use {@link #getPlacedBlocks()} for queries and {@link #addPlacedBlock(Block)}/{@link #removePlacedBlock(Block)} for changes.
      */
+    @Deprecated
     LinkedList<Vector> getPlaced();
 
+    /**
+     * Get the index of blocks placed by players in the arena.
+     * Lookups are O(1) and do not copy the placed blocks.
+     *
+     * @return A read-only view of the placed blocks.
+     */
+    IPlacedBlocks getPlacedBlocks();
+
     /**
      * This is used to destroy arena data when it restarts.
      */
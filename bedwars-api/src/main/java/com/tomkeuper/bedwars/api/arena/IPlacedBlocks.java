@@ -0,0 +1,49 @@
+package com.tomkeuper.bedwars.api.arena;
+
+import org.bukkit.block.Block;
+
+/**
+ * Read-only view of the blocks placed by players in an arena.
+ * Positions are stored packed in a hash index, so lookups are O(1) regardless of how many blocks were placed.
+ */
+public interface IPlacedBlocks {
+
+    /**
+     * Check if a player placed a block at the given coordinates.
+     *
+     * @param x block x.
+     * @param y block y.
+     * @param z block z.
+     * @return {@code true} if the position is in the index.
+     */
+    boolean contains(int x, int y, int z);
+
+    /**
+     * Check if the given block was placed by a player.
+     *
+     * @param block the block to check.
+     * @return {@code true} if the block position is in the index.
+     */
+    default boolean contains(Block block) {
+        return block != null && contains(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Get the amount of tracked placed blocks.
+     *
+     * @return placed blocks count.
+     */
+    int size();
+
+    /**
+     * Iterate all tracked positions without creating intermediate objects.
+     *
+     * @param consumer called once for each placed block.
+     */
+    void forEach(PositionConsumer consumer);
+
+    @FunctionalInterface
+    interface PositionConsumer {
+        void accept(int x, int y, int z);
+    }
+}
@@ -115,6 +115,15 @@ public interface IGenerator {
      */
     void updateHolograms(Player p, String iso);
 
+    /**
+     * Forget the hologram state of a player leaving the arena.
+     * Only needed by holograms which keep track of their viewers.
+     *
+     * @param p player leaving the arena.
+     */
+    default void removeHologramViewer(Player p) {
+    }
+
     /**
      * Enable generator rotation.
      * Make sure it has a helmet set.
@@ -70,6 +70,8 @@ public class ConfigPath {
     public static final String GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_PORT = "bungeecord-settings.redis-configuration.port";
     public static final String GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_PASSWORD = "bungeecord-settings.redis-configuration.password";
     public static final String GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_CHANNEL = "bungeecord-settings.redis-configuration.channel";
+    public static final String GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_PUBLISH_DELAY = "bungeecord-settings.redis-configuration.publish-delay-millis";
+    public static final String GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_ARENA_TTL = "bungeecord-settings.redis-configuration.arena-ttl-seconds";
     public static final String GENERAL_CONFIGURATION_BUNGEE_OPTION_SERVER_ID = "bungeecord-settings.server-id";
     public static final String GENERAL_CONFIGURATION_BUNGEE_OPTION_BWP_TIME_OUT = "bungeecord-settings.bwp-time-out";
     public static final String GENERAL_CONFIGURATION_BUNGEE_OPTION_CLOUDNET_SUPPORT = "bungeecord-settings.cloudnet-support";
@@ -272,8 +274,11 @@ public class ConfigPath {
 
     public static final String GENERAL_CONFIGURATION_PERFORMANCE_PATH = "performance-settings";
     public static final String GENERAL_CONFIGURATION_PERFORMANCE_ROTATE_GEN = GENERAL_CONFIGURATION_PERFORMANCE_PATH + ".rotate-generators";
+    public static final String GENERAL_CONFIGURATION_PERFORMANCE_ROTATE_GEN_ONLY_NEARBY = GENERAL_CONFIGURATION_PERFORMANCE_PATH + ".rotate-generators-only-nearby";
     public static final String GENERAL_CONFIGURATION_PERFORMANCE_SPOIL_TNT_PLAYERS = GENERAL_CONFIGURATION_PERFORMANCE_PATH + ".spoil-tnt-players";
     public static final String GENERAL_CONFIGURATION_PERFORMANCE_GENERATOR_SPLIT = GENERAL_CONFIGURATION_PERFORMANCE_PATH + ".split-island-generator";
+    public static final String GENERAL_CONFIGURATION_PERFORMANCE_GLOBAL_GENERATOR_TASK = GENERAL_CONFIGURATION_PERFORMANCE_PATH + ".global-generator-task";
+    public static final String GENERAL_CONFIGURATION_PERFORMANCE_PACKET_GENERATOR_HOLOGRAMS = GENERAL_CONFIGURATION_PERFORMANCE_PATH + ".packet-generator-holograms";
 
     public static final String GENERAL_CONFIGURATION_PERFORMANCE_PAPER_FEATURES = GENERAL_CONFIGURATION_PERFORMANCE_PATH + ".paper-features";
 
@@ -286,6 +291,7 @@ public class ConfigPath {
 
     public static final String SHOP_SPECIAL_TOWER_ENABLE = SHOP_SPECIALS_PATH + ".tower.enable";
     public static final String SHOP_SPECIAL_TOWER_MATERIAL = SHOP_SPECIALS_PATH + ".tower.material";
+    public static final String SHOP_SPECIAL_TOWER_STRUCTURE = SHOP_SPECIALS_PATH + ".tower.structure";
     public static final String SHOP_SPECIAL_SILVERFISH_ENABLE = SHOP_SPECIALS_PATH + ".silverfish.enable";
     public static final String SHOP_SPECIAL_SILVERFISH_MATERIAL = SHOP_SPECIALS_PATH + ".silverfish.material";
     public static final String SHOP_SPECIAL_SILVERFISH_DATA = SHOP_SPECIALS_PATH + ".silverfish.data";
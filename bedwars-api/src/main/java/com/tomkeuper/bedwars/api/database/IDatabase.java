@@ -23,6 +23,7 @@ package com.tomkeuper.bedwars.api.database;
 import com.tomkeuper.bedwars.api.shop.IQuickBuyElement;
 import com.tomkeuper.bedwars.api.stats.IPlayerStats;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
@@ -52,6 +53,20 @@ public interface IDatabase {
      */
     void saveStats(IPlayerStats stats);
 
+    /**
+     * Creates or replaces statistics for multiple players at once.
+     * Implementations should write them in a single batch, the default one saves them one by one.
+     * Unlike {@link #saveStats(IPlayerStats)}, implementations should report a failed batch so it can be retried.
+     *
+     * @param stats The player statistics to save.
+     * @throws IllegalStateException if the batch could not be saved.
+     */
+    default void saveStats(Collection<IPlayerStats> stats) {
+        for (IPlayerStats s : stats) {
+            saveStats(s);
+        }
+    }
+
     /**
      * Fetches the player statistics for the given UUID.
      *
@@ -60,6 +75,19 @@ public interface IDatabase {
      */
     IPlayerStats fetchStats(UUID uuid);
 
+    /**
+     * Loads everything needed when a player joins: stats, level, language and quick buy.
+     * Implementations should load it using a single connection, the default one calls the separate methods.
+     *
+     * @param uuid          The UUID of the player.
+     * @param quickBuySlots An array of identifiers of the quick buy slots to load.
+     * @return The player profile.
+     */
+    default PlayerProfile loadProfile(UUID uuid, int[] quickBuySlots) {
+        return new PlayerProfile(uuid, fetchStats(uuid), getLevelData(uuid), getLanguage(uuid),
+                hasQuickBuy(uuid) ? getQuickBuySlots(uuid, quickBuySlots) : null);
+    }
+
     /**
      * Saves a custom statistic for a player.
      *
@@ -0,0 +1,83 @@
+package com.tomkeuper.bedwars.api.database;
+
+import com.tomkeuper.bedwars.api.stats.IPlayerStats;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+/**
+ * Data of a player loaded from the database in a single go when the player logs in.
+ * See {@link IDatabase#loadProfile(UUID, int[])}.
+ */
+public class PlayerProfile {
+
+    private final UUID uuid;
+    private final IPlayerStats stats;
+    private final int level, xp, nextLevelCost;
+    private final String levelName;
+    private final String language;
+    private final HashMap<Integer, String> quickBuySlots;
+
+    /**
+     * @param levelData     level data as returned by {@link IDatabase#getLevelData(UUID)}.
+     * @param quickBuySlots saved quick buy slots, null if the player has no quick buy saved.
+     */
+    public PlayerProfile(UUID uuid, IPlayerStats stats, Object[] levelData, String language, @Nullable HashMap<Integer, String> quickBuySlots) {
+        this.uuid = uuid;
+        this.stats = stats;
+        this.level = (Integer) levelData[0];
+        this.xp = (Integer) levelData[1];
+        this.levelName = (String) levelData[2];
+        this.nextLevelCost = (Integer) levelData[3];
+        this.language = language;
+        this.quickBuySlots = quickBuySlots;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public IPlayerStats getStats() {
+        return stats;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getXp() {
+        return xp;
+    }
+
+    public String getLevelName() {
+        return levelName;
+    }
+
+    public int getNextLevelCost() {
+        return nextLevelCost;
+    }
+
+    /**
+     * @return language iso, the default language if the player did not choose one.
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Check if the player has a quick buy saved.
+     * If not, the default quick buy should be applied.
+     */
+    public boolean hasQuickBuy() {
+        return quickBuySlots != null;
+    }
+
+    /**
+     * @return saved quick buy slots (slot, identifier), null if the player has no quick buy saved.
+     */
+    @Nullable
+    public HashMap<Integer, String> getQuickBuySlots() {
+        return quickBuySlots;
+    }
+}
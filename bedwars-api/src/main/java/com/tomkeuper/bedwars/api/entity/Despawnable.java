@@ -23,7 +23,6 @@ package com.tomkeuper.bedwars.api.entity;
 import com.tomkeuper.bedwars.api.BedWars;
 import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.events.player.PlayerKillEvent;
-import com.tomkeuper.bedwars.api.language.Messages;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.LivingEntity;
 
@@ -33,8 +32,10 @@ public class Despawnable {
 
     private LivingEntity e;
     private ITeam team;
-    private int despawn = 250;
+    private long deadline;
     private String namePath;
+    // last pushed name state
+    private int shownHealth = -1, shownDespawn = -1;
     private PlayerKillEvent.PlayerKillCause deathRegularCause, deathFinalCause;
     private UUID uuid;
 
@@ -47,37 +48,49 @@ public class Despawnable {
         this.team = team;
         this.deathFinalCause = deathFinalCause;
         this.deathRegularCause = deathRegularCause;
-        if (despawn != 0) {
-            this.despawn = despawn;
-        }
         this.namePath = namePath;
         if (api == null) api = Bukkit.getServer().getServicesManager().getRegistration(BedWars.class).getProvider();
-        api.getVersionSupport().getDespawnablesList().put(uuid, this);
+        this.deadline = getManager().register(this, despawn == 0 ? 250 : despawn);
         this.setName();
     }
 
+    private static DespawnableManager getManager() {
+        return api.getVersionSupport().getDespawnableManager();
+    }
+
+    /**
+     * Update the name if needed. Called every second by the {@link DespawnableManager}.
+     */
     public void refresh() {
         if (e.isDead() || e == null || team == null || team.getArena() == null) {
             api.getVersionSupport().getDespawnablesList().remove(uuid);
-            if (team.getArena() == null){
+            if (team == null || team.getArena() == null){
                 e.damage(e.getHealth()+100);
             }
             return;
         }
         setName();
-        despawn--;
-        if (despawn == 0) {
-            e.damage(e.getHealth()+100);
-            api.getVersionSupport().getDespawnablesList().remove(e.getUniqueId());
-        }
+    }
+
+    /**
+     * Kill the entity because its time is over.
+     */
+    void despawn() {
+        e.damage(e.getHealth()+100);
+        api.getVersionSupport().getDespawnablesList().remove(uuid);
     }
 
     private void setName() {
-        int percentuale = (int) ((e.getHealth() * 100) / e.getMaxHealth() / 10);
-        String name = api.getDefaultLang().m(namePath).replace("%bw_despawn_time%", String.valueOf(despawn)).replace("%bw_health%",
-                new String(new char[percentuale]).replace("\0", api.getDefaultLang()
-                        .m(Messages.FORMATTING_DESPAWNABLE_UTILITY_NPC_HEALTH)) + new String(new char[10 - percentuale]).replace("\0", "§7" + api.getDefaultLang()
-                        .m(Messages.FORMATTING_DESPAWNABLE_UTILITY_NPC_HEALTH)));
+        int health = (int) ((e.getHealth() * 100) / e.getMaxHealth() / 10);
+        int left = getDespawn();
+        String template = api.getDefaultLang().m(namePath);
+        boolean showsTime = template.contains("%bw_despawn_time%");
+        if (health == shownHealth && (left == shownDespawn || !showsTime)) return;
+        shownHealth = health;
+        shownDespawn = left;
+
+        String name = template.replace("%bw_despawn_time%", String.valueOf(left))
+                .replace("%bw_health%", getManager().getHealthBar(api.getDefaultLang(), health));
         if (team != null) {
             name = name.replace("%bw_team_color%", team.getColor().chat().toString()).replace("%bw_team_name%", team.getDisplayName(api.getDefaultLang()));
         }
@@ -92,8 +105,19 @@ public class Despawnable {
         return team;
     }
 
+    /**
+     * Seconds left until the entity is killed.
+     */
     public int getDespawn() {
-        return despawn;
+        return (int) (deadline - getManager().getTick());
+    }
+
+    long getDeadline() {
+        return deadline;
+    }
+
+    UUID getUuid() {
+        return uuid;
     }
 
     public PlayerKillEvent.PlayerKillCause getDeathFinalCause() {
@@ -0,0 +1,133 @@
+package com.tomkeuper.bedwars.api.entity;
+
+import com.tomkeuper.bedwars.api.arena.IArena;
+import com.tomkeuper.bedwars.api.language.Language;
+import com.tomkeuper.bedwars.api.language.Messages;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drives the despawnable utility mobs, once per second.
+ * Despawn deadlines are kept in a timing wheel per arena, so only the mobs expiring in the current
+ * second are visited for despawning. Names are only pushed when the health or the displayed timer changed.
+ * <p>
+ * The despawnables map stays the source of truth: entries removed from it are dropped from the wheel when visited.
+ */
+public class DespawnableManager {
+
+    private static final int WHEEL_SIZE = 64;
+
+    private final ConcurrentHashMap<UUID, Despawnable> despawnables;
+    private final HashMap<IArena, Wheel> wheels = new HashMap<>();
+    // health symbol, bars from 0 to 10 full
+    private final HashMap<String, String[]> healthBars = new HashMap<>();
+    private long tick = 0;
+
+    public DespawnableManager(ConcurrentHashMap<UUID, Despawnable> despawnables) {
+        this.despawnables = despawnables;
+    }
+
+    /**
+     * Start tracking a despawnable.
+     *
+     * @param despawn seconds until the entity is killed.
+     * @return the despawn deadline.
+     */
+    public long register(Despawnable despawnable, int despawn) {
+        despawnables.put(despawnable.getUuid(), despawnable);
+        long deadline = tick + despawn;
+        IArena arena = despawnable.getTeam() == null ? null : despawnable.getTeam().getArena();
+        wheels.computeIfAbsent(arena, a -> new Wheel()).add(despawnable, deadline);
+        return deadline;
+    }
+
+    /**
+     * Refresh names and despawn the expired entities. Called every second.
+     */
+    public void tick() {
+        for (Despawnable despawnable : despawnables.values()) {
+            despawnable.refresh();
+        }
+        tick++;
+
+        Iterator<Wheel> iterator = wheels.values().iterator();
+        while (iterator.hasNext()) {
+            Wheel wheel = iterator.next();
+            wheel.expire(tick);
+            if (wheel.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Seconds elapsed since the manager was created.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Get the health bar for a number of full tenths, from 0 to 10.
+     */
+    public String getHealthBar(Language language, int tenths) {
+        String symbol = language.m(Messages.FORMATTING_DESPAWNABLE_UTILITY_NPC_HEALTH);
+        String[] bars = healthBars.get(symbol);
+        if (bars == null) {
+            bars = new String[11];
+            for (int full = 0; full <= 10; full++) {
+                StringBuilder bar = new StringBuilder();
+                for (int i = 0; i < full; i++) {
+                    bar.append(symbol);
+                }
+                for (int i = full; i < 10; i++) {
+                    bar.append("§7").append(symbol);
+                }
+                bars[full] = bar.toString();
+            }
+            healthBars.put(symbol, bars);
+        }
+        return bars[Math.max(0, Math.min(10, tenths))];
+    }
+
+    private class Wheel {
+        @SuppressWarnings("unchecked")
+        private final List<Despawnable>[] buckets = new List[WHEEL_SIZE];
+        private int size = 0;
+
+        private void add(Despawnable despawnable, long deadline) {
+            int index = (int) (deadline % WHEEL_SIZE);
+            if (buckets[index] == null) {
+                buckets[index] = new ArrayList<>(2);
+            }
+            buckets[index].add(despawnable);
+            size++;
+        }
+
+        private void expire(long tick) {
+            List<Despawnable> bucket = buckets[(int) (tick % WHEEL_SIZE)];
+            if (bucket == null) return;
+            Iterator<Despawnable> iterator = bucket.iterator();
+            while (iterator.hasNext()) {
+                Despawnable despawnable = iterator.next();
+                if (despawnables.get(despawnable.getUuid()) != despawnable) {
+                    iterator.remove();
+                    size--;
+                } else if (despawnable.getDeadline() <= tick) {
+                    iterator.remove();
+                    size--;
+                    despawnable.despawn();
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.tomkeuper.bedwars.api.hologram;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Single line hologram which only exists on the client side.
+ * The backing armor stand is never added to the server world, it is spawned, renamed and destroyed
+ * with packets sent to the players that should see it.
+ * <p>
+ * Get an instance with {@link com.tomkeuper.bedwars.api.server.VersionSupport#createPacketHologram(Location, String)}.
+ * Not thread safe, it should only be used from the main thread.
+ */
+public abstract class PacketHologram {
+
+    private final Location location;
+    private final Set<UUID> viewers = new HashSet<>();
+    private String text;
+
+    protected PacketHologram(Location location, String text) {
+        this.location = location;
+        this.text = text;
+    }
+
+    /**
+     * Spawn the hologram for the given player. Does nothing if the player already sees it.
+     */
+    public void show(Player player) {
+        if (viewers.add(player.getUniqueId())) {
+            sendSpawn(player);
+        }
+    }
+
+    /**
+     * Destroy the hologram for the given player. Does nothing if the player does not see it.
+     */
+    public void hide(Player player) {
+        if (viewers.remove(player.getUniqueId())) {
+            sendDestroy(player);
+        }
+    }
+
+    /**
+     * Forget a viewer without sending any packet.
+     * Used when the client already dropped the entity, for example after a world change.
+     */
+    public void forget(Player player) {
+        viewers.remove(player.getUniqueId());
+    }
+
+    public boolean isViewer(Player player) {
+        return viewers.contains(player.getUniqueId());
+    }
+
+    /**
+     * Change the displayed text. Metadata is only sent if the text changed.
+     */
+    public void setText(String text) {
+        if (text == null || text.equals(this.text)) return;
+        this.text = text;
+        applyText(text);
+        Iterator<UUID> iterator = viewers.iterator();
+        while (iterator.hasNext()) {
+            Player player = Bukkit.getPlayer(iterator.next());
+            if (player == null) {
+                iterator.remove();
+                continue;
+            }
+            sendMetadata(player);
+        }
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * Destroy the hologram for all its viewers.
+     */
+    public void destroy() {
+        for (UUID uuid : viewers) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                sendDestroy(player);
+            }
+        }
+        viewers.clear();
+    }
+
+    /**
+     * Send the spawn packet including the current name.
+     */
+    protected abstract void sendSpawn(Player player);
+
+    /**
+     * Send the entity metadata after a text change.
+     */
+    protected abstract void sendMetadata(Player player);
+
+    protected abstract void sendDestroy(Player player);
+
+    /**
+     * Update the custom name of the backing entity.
+     */
+    protected abstract void applyText(String text);
+}
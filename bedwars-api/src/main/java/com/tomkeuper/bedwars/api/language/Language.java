@@ -32,16 +32,25 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Language extends ConfigManager {
 
     private final String iso;
     private String prefix = "";
     private static String prefixStatic = "";
-    private static final HashMap<UUID, Language> langByPlayer = new HashMap<>();
+    // read from placeholder threads
+    private static final Map<UUID, Language> langByPlayer = new ConcurrentHashMap<>();
     private static final List<Language> languages = new ArrayList<>();
     private static Language defaultLanguage;
     private String serverIp;
+    private static BedWars api;
+
+    // compiled messages, cleared when the file or the prefix changes
+    private final Map<String, String> messages = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> lists = new ConcurrentHashMap<>();
+    private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, CompiledMessage> compiled = new ConcurrentHashMap<>();
 
     /**
      * Constructs a Language object with the specified plugin and ISO language code.
@@ -62,6 +71,7 @@ public class Language extends ConfigManager {
      */
     public void setPrefix(String prefix) {
         this.prefix = prefix;
+        clearCompiled();
     }
 
     /**
@@ -71,6 +81,9 @@ public class Language extends ConfigManager {
      */
     public void setPrefixStatic(String prefix) {
         prefixStatic = prefix;
+        for (Language l : languages) {
+            l.compiled.clear();
+        }
     }
 
     /**
@@ -131,8 +144,7 @@ public class Language extends ConfigManager {
      */
     public static String getMsg(Player p, String path) {
         if (p == null) return getDefaultLanguage().m(path);
-        BedWars api = Bukkit.getServicesManager().getRegistration(BedWars.class).getProvider();
-        return IridiumColorAPI.process(api.getSupportPapi().replace(p, langByPlayer.getOrDefault(p.getUniqueId(), getDefaultLanguage()).m(path).replace("%bw_lang_prefix%", (prefixStatic == null ? "" : prefixStatic))));
+        return getMsg(langByPlayer.getOrDefault(p.getUniqueId(), getDefaultLanguage()), p, path);
     }
 
     /**
@@ -145,8 +157,19 @@ public class Language extends ConfigManager {
      */
     public static String getMsg(Language language, Player papiPlayer, String path) {
         if (language == null) return getDefaultLanguage().m(path);
-        BedWars api = Bukkit.getServicesManager().getRegistration(BedWars.class).getProvider();
-        return IridiumColorAPI.process(api.getSupportPapi().replace(papiPlayer, language.m(path).replace("%bw_lang_prefix%", (prefixStatic == null ? "" : prefixStatic))));
+        CompiledMessage message = language.getCompiled(path);
+        if (!message.placeholders) return message.processed;
+        String replaced = getApi().getSupportPapi().replace(papiPlayer, message.raw);
+        // colors only need to be processed again if the placeholders were replaced with something
+        if (replaced == null || replaced.equals(message.raw)) return message.processed;
+        return IridiumColorAPI.process(replaced);
+    }
+
+    private static BedWars getApi() {
+        if (api == null) {
+            api = Bukkit.getServicesManager().getRegistration(BedWars.class).getProvider();
+        }
+        return api;
     }
 
     /**
@@ -167,6 +190,7 @@ public class Language extends ConfigManager {
      * @return the language of the player
      */
     public static Language getPlayerLanguage(UUID p) {
+        if (p == null) return getDefaultLanguage();
         return langByPlayer.getOrDefault(p, getDefaultLanguage());
     }
 
@@ -213,23 +237,89 @@ public class Language extends ConfigManager {
      * @return The message.
      */
     public String m(String path) {
+        String cached = messages.get(path);
+        if (cached != null) return cached;
         String message = getYml().getString(path);
         if (message == null) {
             System.err.println("Missing message key " + path + " in language " + getIso());
             message = "MISSING_LANG";
         }
         if (null == serverIp) {
-            BedWars api = Bukkit.getServicesManager().getRegistration(BedWars.class).getProvider();
-            if (null != api.getConfigs().getMainConfig()) {
-                serverIp = api.getConfigs().getMainConfig().
+            if (null != getApi().getConfigs().getMainConfig()) {
+                serverIp = getApi().getConfigs().getMainConfig().
                         getString(ConfigPath.GENERAL_CONFIG_PLACEHOLDERS_REPLACEMENTS_SERVER_IP);
             }
         }
 
-        return ChatColor.translateAlternateColorCodes('&', message
+        message = ChatColor.translateAlternateColorCodes('&', message
                 .replace("%bw_lang_prefix%", (prefix == null ? "" : prefix))
                 .replace("%bw_server_ip%", serverIp == null ? "" : serverIp)
         );
+        // the server ip is not known before the main config is loaded
+        if (serverIp != null) {
+            messages.put(path, message);
+        }
+        return message;
+    }
+
+    /**
+     * Get a message ready for {@link #getMsg(Language, Player, String)}.
+     */
+    private CompiledMessage getCompiled(String path) {
+        CompiledMessage message = compiled.get(path);
+        if (message == null) {
+            String raw = m(path).replace("%bw_lang_prefix%", (prefixStatic == null ? "" : prefixStatic));
+            message = new CompiledMessage(raw, IridiumColorAPI.process(raw), MessageTemplate.compile(raw).hasPlaceholders());
+            if (serverIp != null) {
+                compiled.put(path, message);
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Get a color translated message compiled for placeholder replacement.
+     * Templates are cached until the language file is changed or reloaded,
+     * use this for messages rendered very often like generator timers.
+     *
+     * @param path The path to the message
+     * @return The compiled message.
+     */
+    public MessageTemplate getTemplate(String path) {
+        MessageTemplate template = templates.get(path);
+        if (template == null) {
+            template = MessageTemplate.compile(m(path));
+            if (serverIp != null) {
+                templates.put(path, template);
+            }
+        }
+        return template;
+    }
+
+    @Override
+    public void reload() {
+        super.reload();
+        clearCompiled();
+    }
+
+    @Override
+    public void set(String path, Object value) {
+        super.set(path, value);
+        clearCompiled();
+    }
+
+    @Override
+    public void save() {
+        super.save();
+        // defaults may have been added directly to the yml
+        clearCompiled();
+    }
+
+    private void clearCompiled() {
+        messages.clear();
+        lists.clear();
+        templates.clear();
+        compiled.clear();
     }
 
     /**
@@ -239,24 +329,42 @@ public class Language extends ConfigManager {
      * @return The list of mesaages.
      */
     public List<String> l(String path) {
-        List<String> result = new ArrayList<>();
-        List<String> lines = getYml().getStringList(path);
-        if (lines == null) {
-            System.err.println("Missing message list key " + path + " in language " + getIso());
-            lines = Collections.emptyList();
-        }
-        for (String line : lines) {
-            result.add(ChatColor.translateAlternateColorCodes('&', line));
+        List<String> cached = lists.get(path);
+        if (cached == null) {
+            List<String> lines = getYml().getStringList(path);
+            if (lines == null) {
+                System.err.println("Missing message list key " + path + " in language " + getIso());
+                lines = Collections.emptyList();
+            }
+            cached = new ArrayList<>(lines.size());
+            for (String line : lines) {
+                cached.add(ChatColor.translateAlternateColorCodes('&', line));
+            }
+            lists.put(path, cached);
         }
-        return result;
+        // callers are free to modify the returned list
+        return new ArrayList<>(cached);
     }
 
     /**
      * Retrieves the language mapping by player UUID.
      *
      * @return the language mapping by player UUID
+     * @deprecated returns a copy of the mapping, changes to the map are not reflected in the player languages.
+     * Use {@link #getLanguageByPlayer()} for queries and {@link #setPlayerLanguage(UUID, String)} for changes.
      */
+    @Deprecated
     public static HashMap<UUID, Language> getLangByPlayer() {
+        return new HashMap<>(langByPlayer);
+    }
+
+    /**
+     * Retrieves the language mapping by player UUID.
+     * This map is read from placeholder threads, it is safe to query and change from any thread.
+     *
+     * @return the language mapping by player UUID
+     */
+    public static Map<UUID, Language> getLanguageByPlayer() {
         return langByPlayer;
     }
 
@@ -544,4 +652,20 @@ public class Language extends ConfigManager {
     public static Language getDefaultLanguage() {
         return defaultLanguage;
     }
+
+    /**
+     * Message with the prefixes and colors already applied.
+     */
+    private static final class CompiledMessage {
+        // before IridiumColorAPI processing, used if placeholders have to be replaced
+        private final String raw;
+        private final String processed;
+        private final boolean placeholders;
+
+        private CompiledMessage(String raw, String processed, boolean placeholders) {
+            this.raw = raw;
+            this.processed = processed;
+            this.placeholders = placeholders;
+        }
+    }
 }
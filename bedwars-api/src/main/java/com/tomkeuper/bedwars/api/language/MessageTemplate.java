@@ -0,0 +1,89 @@
+package com.tomkeuper.bedwars.api.language;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Message split once in literal text and %placeholder% parts,
+ * so frequently rendered messages do not need to scan the whole string for each replacement.
+ * Get instances with {@link Language#getTemplate(String)}.
+ */
+public final class MessageTemplate {
+
+    private final String message;
+    // literal text at even indexes, placeholders including the % signs at odd indexes
+    private final String[] parts;
+
+    private MessageTemplate(String message, String[] parts) {
+        this.message = message;
+        this.parts = parts;
+    }
+
+    /**
+     * Split a color translated message in literal and placeholder parts.
+     *
+     * @param message message to compile.
+     * @return compiled template.
+     */
+    public static MessageTemplate compile(String message) {
+        List<String> parts = new ArrayList<>();
+        int literalStart = 0, i = 0;
+        while (i < message.length()) {
+            int start = message.indexOf('%', i);
+            if (start == -1) break;
+            int end = message.indexOf('%', start + 1);
+            if (end == -1) break;
+            if (end == start + 1 || message.substring(start + 1, end).indexOf(' ') != -1) {
+                // not a placeholder, keep the second % as a possible start
+                i = end;
+                continue;
+            }
+            parts.add(message.substring(literalStart, start));
+            parts.add(message.substring(start, end + 1));
+            literalStart = i = end + 1;
+        }
+        parts.add(message.substring(literalStart));
+        return new MessageTemplate(message, parts.toArray(new String[0]));
+    }
+
+    /**
+     * Replace a placeholder. Other placeholders are kept as they are.
+     *
+     * @param placeholder placeholder including the % signs, for example %bw_seconds%.
+     * @param value       replacement.
+     * @return the rendered message.
+     */
+    public String format(String placeholder, String value) {
+        if (parts.length == 1) return message;
+        StringBuilder sb = new StringBuilder(message.length() + 16);
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            sb.append((i & 1) == 1 && part.equals(placeholder) ? value : part);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Check if the template contains any placeholder.
+     */
+    public boolean hasPlaceholders() {
+        return parts.length > 1;
+    }
+
+    /**
+     * Check if the template contains the given placeholder.
+     *
+     * @param placeholder placeholder including the % signs.
+     */
+    public boolean hasPlaceholder(String placeholder) {
+        for (int i = 1; i < parts.length; i += 2) {
+            if (parts[i].equals(placeholder)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return message;
+    }
+}
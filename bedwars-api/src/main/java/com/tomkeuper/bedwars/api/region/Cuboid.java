@@ -75,4 +75,20 @@ public class Cuboid implements Region {
     public int getMinY() {
         return minY;
     }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMinZ() {
+        return minZ;
+    }
+
+    public int getMaxZ() {
+        return maxZ;
+    }
 }
@@ -24,7 +24,9 @@ import com.tomkeuper.bedwars.api.arena.IArena;
 import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.arena.team.TeamColor;
 import com.tomkeuper.bedwars.api.entity.Despawnable;
+import com.tomkeuper.bedwars.api.entity.DespawnableManager;
 import com.tomkeuper.bedwars.api.exceptions.InvalidEffectException;
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
 import org.bukkit.Effect;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -33,6 +35,7 @@ import org.bukkit.block.BlockState;
 import org.bukkit.command.Command;
 import org.bukkit.entity.*;
 import org.bukkit.event.inventory.InventoryEvent;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
@@ -52,6 +55,7 @@ public abstract class VersionSupport {
     private Effect eggBridge;
 
     private static final ConcurrentHashMap<UUID, Despawnable> despawnables = new ConcurrentHashMap<>();
+    private static final DespawnableManager despawnableManager = new DespawnableManager(despawnables);
     private final Plugin plugin;
 
     public VersionSupport(Plugin plugin, String versionName) {
@@ -97,6 +101,17 @@ public abstract class VersionSupport {
      */
     public abstract void hideEntity(Entity e, Player p);
 
+    /**
+     * Create a client side only hologram line.
+     * The hologram is not spawned for anyone until {@link PacketHologram#show(Player)} is called.
+     *
+     * @return null if packet holograms are not supported on this server version.
+     */
+    @Nullable
+    public PacketHologram createPacketHologram(Location location, String text) {
+        return null;
+    }
+
 
     /**
      * Check if item-stack is armor
@@ -405,6 +420,24 @@ public abstract class VersionSupport {
      */
     public abstract ItemStack setShopUpgradeIdentifier(ItemStack itemStack, String identifier);
 
+    /**
+     * Get the upgrade identifiers of an inventory in one pass.
+     *
+     * @return the identifier for each slot, null for empty slots and items without an identifier.
+     */
+    public String[] scanInventory(Inventory inventory) {
+        ItemStack[] contents = inventory.getContents();
+        String[] identifiers = new String[contents.length];
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack itemStack = contents[slot];
+            if (itemStack == null || itemStack.getType() == Material.AIR) continue;
+            String identifier = getShopUpgradeIdentifier(itemStack);
+            if (identifier == null || identifier.trim().isEmpty() || identifier.equals("null")) continue;
+            identifiers[slot] = identifier;
+        }
+        return identifiers;
+    }
+
     /**
      * Get player head with skin.
      *
@@ -436,6 +469,13 @@ public abstract class VersionSupport {
         return despawnables;
     }
 
+    /**
+     * Get the service refreshing and despawning the entities in {@link #getDespawnablesList()}.
+     */
+    public DespawnableManager getDespawnableManager() {
+        return despawnableManager;
+    }
+
 
     public static String getName() {
         return name2;
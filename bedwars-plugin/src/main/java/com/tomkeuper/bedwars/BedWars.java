@@ -45,6 +45,7 @@ import com.tomkeuper.bedwars.arena.feature.AntiDropFeature;
 import com.tomkeuper.bedwars.arena.feature.GenSplitFeature;
 import com.tomkeuper.bedwars.arena.feature.SpoilPlayerTNTFeature;
 import com.tomkeuper.bedwars.arena.spectator.SpectatorListeners;
+import com.tomkeuper.bedwars.arena.tasks.GeneratorScheduler;
 import com.tomkeuper.bedwars.arena.tasks.OneTick;
 import com.tomkeuper.bedwars.arena.tasks.Refresh;
 import com.tomkeuper.bedwars.arena.upgrades.BaseListener;
@@ -58,6 +59,7 @@ import com.tomkeuper.bedwars.configuration.*;
 import com.tomkeuper.bedwars.database.H2;
 import com.tomkeuper.bedwars.database.MySQL;
 import com.tomkeuper.bedwars.database.SQLite;
+import com.tomkeuper.bedwars.database.StatsWriteQueue;
 import com.tomkeuper.bedwars.halloween.HalloweenSpecial;
 import com.tomkeuper.bedwars.language.*;
 import com.tomkeuper.bedwars.levels.internal.InternalLevel;
@@ -326,7 +328,7 @@ public class BedWars extends JavaPlugin {
 
         // Register events
         registerEvents(new EnderPearlLanded(), new QuitAndTeleportListener(), new BreakPlace(), new DamageDeathMove(), new Inventory(), new Interact(), new RefreshGUI(), new HungerWeatherSpawn(), new CmdProcess(),
-                new FireballListener(), new EggBridge(), new SpectatorListeners(), new BaseListener(), new TargetListener(), new LangListener(), new Warnings(this), new ChatAFK(), new GameEndListener());
+                new FireballListener(), new EggBridge(), new SpectatorListeners(), new BaseListener(), new MoveDispatcher(), new TargetListener(), new LangListener(), new Warnings(this), new ChatAFK(), new GameEndListener());
 
         if (config.getBoolean(ConfigPath.GENERAL_CONFIGURATION_HEAL_POOL_ENABLE)) {
             registerEvents(new HealPoolListener());
@@ -366,6 +368,8 @@ public class BedWars extends JavaPlugin {
 
         registerEvents(new InvisibilityPotionListener());
 
+        registerEvents(new GeneratorHologramListener());
+
         statsManager = new StatsManager();
 
         /* Party support */
@@ -617,6 +621,7 @@ public class BedWars extends JavaPlugin {
         // Register features
         SpoilPlayerTNTFeature.init();
         GenSplitFeature.init();
+        GeneratorScheduler.init();
         AntiDropFeature.init();
 
         // Initialize the addons
@@ -691,6 +696,8 @@ public class BedWars extends JavaPlugin {
                 ex.printStackTrace();
             }
         }
+        // write the stats saved while disabling the arenas
+        StatsWriteQueue.getInstance().shutdown();
 
     }
 
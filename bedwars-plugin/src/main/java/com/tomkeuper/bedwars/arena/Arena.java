@@ -23,6 +23,7 @@ package com.tomkeuper.bedwars.arena;
 import com.tomkeuper.bedwars.BedWars;
 import com.tomkeuper.bedwars.api.arena.GameState;
 import com.tomkeuper.bedwars.api.arena.IArena;
+import com.tomkeuper.bedwars.api.arena.IPlacedBlocks;
 import com.tomkeuper.bedwars.api.arena.NextEvent;
 import com.tomkeuper.bedwars.api.arena.generator.GeneratorType;
 import com.tomkeuper.bedwars.api.arena.generator.IGenerator;
@@ -104,13 +105,10 @@ import static com.tomkeuper.bedwars.arena.upgrades.BaseListener.isOnABase;
 @SuppressWarnings("WeakerAccess")
 public class Arena implements IArena {
 
-    private static final HashMap<String, IArena> arenaByName = new HashMap<>();
-    private static final HashMap<Player, IArena> arenaByPlayer = new HashMap<>();
-    private static final HashMap<String, IArena> arenaByIdentifier = new HashMap<>();
-    private static final LinkedList<IArena> arenas = new LinkedList<>();
+    private static final ArenaRegistry registry = ArenaRegistry.getInstance();
     private static int gamesBeforeRestart = config.getInt(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_GAMES_BEFORE_RESTART);
-    public static HashMap<UUID, Integer> afkCheck = new HashMap<>();
-    public static HashMap<UUID, Integer> magicMilk = new HashMap<>();
+    public static final Map<UUID, Integer> afkCheck = registry.getAfkCheck();
+    public static final Map<UUID, Integer> magicMilk = registry.getMagicMilk();
 
 
     private List<Player> players = new ArrayList<>();
@@ -125,10 +123,12 @@ public class Arena implements IArena {
     private World world;
     private String group = "Default", arenaName, worldName;
     private List<ITeam> teams = new ArrayList<>();
-    private LinkedList<org.bukkit.util.Vector> placed = new LinkedList<>();
+    private PlacedBlockIndex placed = new PlacedBlockIndex();
     private List<String> nextEvents = new ArrayList<>();
     private List<String> shopOverrideCategories = new ArrayList<>();
-    private List<Region> regionsList = new ArrayList<>();
+    private RegionIndex regionIndex = new RegionIndex();
+    private ZoneIndex zoneIndex;
+    private final PlayerIndex playerIndex = new PlayerIndex();
     private List<ServerPlaceholder> serverPlaceholders = new ArrayList<>();
     private List<BossBar> dragonBossbars = new ArrayList<>();
     private int renderDistance;
@@ -347,11 +347,10 @@ public class Arena implements IArena {
             }
         }
 
-        arenas.add(this);
-        arenaByName.put(getArenaName(), this);
-        arenaByIdentifier.put(worldName, this);
+        registry.register(this, worldName);
         world.getWorldBorder().setCenter(cm.getArenaLoc("waiting.Loc"));
         world.getWorldBorder().setSize(yml.getInt("worldBorder"));
+        regionIndex.build();
 
         /* Check if lobby removal is set */
         if (!getConfig().getYml().isSet(ConfigPath.ARENA_WAITING_POS1) && getConfig().getYml().isSet(ConfigPath.ARENA_WAITING_POS2)) {
@@ -508,6 +507,7 @@ public class Arena implements IArena {
 
             p.closeInventory();
             players.add(p);
+            playerIndex.setRole(p, PlayerIndex.Role.PLAYER);
             p.setFlying(false);
             p.setAllowFlight(false);
             p.setHealth(20);
@@ -660,6 +660,7 @@ public class Arena implements IArena {
             p.closeInventory();
             spectators.add(p);
             players.remove(p);
+            playerIndex.setRole(p, PlayerIndex.Role.SPECTATOR);
 
             if (!playerBefore) {
                 /* save player inv etc if isn't saved yet*/
@@ -788,6 +789,7 @@ public class Arena implements IArena {
         }
         debug("Player removed: " + p.getName() + " arena: " + getArenaName());
         respawnSessions.remove(p);
+        removeHologramViewer(p);
 
         ITeam team = null;
 
@@ -799,6 +801,7 @@ public class Arena implements IArena {
                 if (t.isMember(p)) {
                     team = t;
                     t.getMembers().remove(p);
+                    playerIndex.removeTeam(p);
                     t.destroyBedHolo(p);
                 }
             }
@@ -822,6 +825,7 @@ public class Arena implements IArena {
         Bukkit.getPluginManager().callEvent(new PlayerLeaveArenaEvent(p, this, lastDamager));
         //players.remove must be under call event in order to check if the player is a spectator or not
         players.remove(p);
+        playerIndex.removeRole(p, PlayerIndex.Role.PLAYER);
         removeArenaByPlayer(p, this);
 
         for (PotionEffect pf : p.getActivePotionEffects()) {
@@ -1060,7 +1064,9 @@ public class Arena implements IArena {
 
         Bukkit.getPluginManager().callEvent(new PlayerLeaveArenaEvent(p, this, null));
         spectators.remove(p);
+        playerIndex.removeRole(p, PlayerIndex.Role.SPECTATOR);
         removeArenaByPlayer(p, this);
+        removeHologramViewer(p);
         p.getInventory().clear();
         p.getInventory().setArmorContents(null);
         nms.setCollide(p, this, true);
@@ -1172,6 +1178,7 @@ public class Arena implements IArena {
 
         p.closeInventory();
         players.add(p);
+        playerIndex.setRole(p, PlayerIndex.Role.PLAYER);
         for (Player on : players) {
             on.sendMessage(getMsg(on, Messages.COMMAND_REJOIN_PLAYER_RECONNECTED).replace("%bw_playername%", p.getName()).replace("%bw_player%", p.getDisplayName()).replace("%bw_on%", String.valueOf(getPlayers().size())).replace("%bw_max%", String.valueOf(getMaxPlayers())));
         }
@@ -1193,7 +1200,7 @@ public class Arena implements IArena {
         if (sc != null) sc.destroy();
         sc = new ShopCache(p.getUniqueId());
         for (ShopCache.CachedItem ci : reJoin.getPermanentsAndNonDowngradables()) {
-            sc.getCachedItems().add(ci);
+            sc.addCachedItem(ci);
         }
 
         reJoin.getBedWarsTeam().reJoin(p, ev.getRespawnTime());
@@ -1275,7 +1282,7 @@ public class Arena implements IArena {
      * @param arenaName arena name
      */
     public static IArena getArenaByName(String arenaName) {
-        return arenaByName.get(arenaName);
+        return registry.getByName(arenaName);
     }
 
     /**
@@ -1284,7 +1291,7 @@ public class Arena implements IArena {
      * @param worldName world name
      */
     public static IArena getArenaByIdentifier(String worldName) {
-        return arenaByIdentifier.get(worldName);
+        return registry.getByIdentifier(worldName);
     }
 
     /**
@@ -1294,14 +1301,17 @@ public class Arena implements IArena {
      * @return The arena where the player is in. Can be NULL.
      */
     public static IArena getArenaByPlayer(Player p) {
-        return arenaByPlayer.get(p);
+        if (p == null) return null;
+        return registry.getByPlayer(p.getUniqueId());
     }
 
     /**
-     * Get an arenas list
+     * Get an arenas list.
+     * This is a copy, changing it or adding and removing arenas does not affect each other.
+     * Use {@link ArenaRegistry#getArenas()} to read the arenas without copying them.
      */
     public static LinkedList<IArena> getArenas() {
-        return arenas;
+        return new LinkedList<>(registry.getArenas());
     }
 
     /**
@@ -1393,22 +1403,18 @@ public class Arena implements IArena {
     @Override
     public void addPlacedBlock(Block block) {
         if (block == null) return;
-        placed.add(new org.bukkit.util.Vector(block.getX(), block.getY(), block.getZ()));
+        placed.add(block.getX(), block.getY(), block.getZ());
     }
 
     @Override
     public void removePlacedBlock(Block block) {
         if (block == null) return;
-        if (!isBlockPlaced(block)) return;
-        placed.remove(new org.bukkit.util.Vector(block.getX(), block.getY(), block.getZ()));
+        placed.remove(block.getX(), block.getY(), block.getZ());
     }
 
     @Override
     public boolean isBlockPlaced(Block block) {
-        for (org.bukkit.util.Vector v : getPlaced()) {
-            if (v.getX() == block.getX() && v.getY() == block.getY() && v.getZ() == block.getZ()) return true;
-        }
-        return false;
+        return placed.contains(block);
     }
 
     /**
@@ -1456,21 +1462,21 @@ public class Arena implements IArena {
     }
 
     public static void setArenaByPlayer(Player p, IArena arena) {
-        arenaByPlayer.put(p, arena);
+        registry.putPlayer(p.getUniqueId(), arena);
         arena.refreshSigns();
         JoinNPC.updateNPCs(arena.getGroup());
     }
 
     public static void setArenaByName(IArena arena) {
-        arenaByName.put(arena.getArenaName(), arena);
+        registry.putName(arena);
     }
 
     public static void removeArenaByName(@NotNull String arena) {
-        arenaByName.remove(arena.replace("_clone", ""));
+        registry.removeName(arena.replace("_clone", ""));
     }
 
     public static void removeArenaByPlayer(Player p, @NotNull IArena arena) {
-        arenaByPlayer.remove(p);
+        registry.removePlayer(p.getUniqueId());
         arena.refreshSigns();
         JoinNPC.updateNPCs(arena.getGroup());
     }
@@ -1586,7 +1592,7 @@ public class Arena implements IArena {
      */
     @Override
     public boolean isPlayer(Player p) {
-        return players.contains(p);
+        return p != null && playerIndex.getRole(p.getUniqueId()) == PlayerIndex.Role.PLAYER;
     }
 
     /**
@@ -1594,26 +1600,19 @@ public class Arena implements IArena {
      */
     @Override
     public boolean isSpectator(Player p) {
-        return spectators.contains(p);
+        return p != null && playerIndex.getRole(p.getUniqueId()) == PlayerIndex.Role.SPECTATOR;
     }
 
     @Override
     public boolean isSpectator(UUID player) {
-        for (Player p : getSpectators()) {
-            if (p.getUniqueId().equals(player)) return true;
-        }
-        return false;
+        return playerIndex.getRole(player) == PlayerIndex.Role.SPECTATOR;
     }
 
     @Override
     public boolean isReSpawning(UUID player) {
-        if (player == null) return false;
-        for (Player reSpawnSession : respawnSessions.keySet()) {
-            if (reSpawnSession.getUniqueId().equals(player)) {
-                return true;
-            }
-        }
-        return false;
+        // sessions are keyed by the player instance added to the arena
+        Player p = playerIndex.getPlayer(player);
+        return p != null && respawnSessions.containsKey(p);
     }
 
     /**
@@ -1836,7 +1835,7 @@ public class Arena implements IArena {
      * @return true if is playing or spectating.
      */
     public static boolean isInArena(Player p) {
-        return arenaByPlayer.containsKey(p);
+        return p != null && registry.getByPlayer(p.getUniqueId()) != null;
     }
 
     /**
@@ -1845,12 +1844,7 @@ public class Arena implements IArena {
      */
     @Override
     public ITeam getTeam(Player p) {
-        for (ITeam t : getTeams()) {
-            if (t.isMember(p)) {
-                return t;
-            }
-        }
-        return null;
+        return p == null ? null : playerIndex.getTeam(p.getUniqueId());
     }
 
     /**
@@ -1859,12 +1853,7 @@ public class Arena implements IArena {
      */
     @Override
     public ITeam getExTeam(UUID p) {
-        for (ITeam t : getTeams()) {
-            if (t.wasMember(p)) {
-                return t;
-            }
-        }
-        return null;
+        return playerIndex.getExTeam(p);
     }
 
     /**
@@ -2130,10 +2119,10 @@ public class Arena implements IArena {
     }
 
     /**
-     * Get arena by players list.
+     * Get arena by players list, keyed by player uuid.
      */
-    public static HashMap<Player, IArena> getArenaByPlayer() {
-        return arenaByPlayer;
+    public static Map<UUID, IArena> getArenaByPlayer() {
+        return registry.getPlayers();
     }
 
     /**
@@ -2397,10 +2386,40 @@ public class Arena implements IArena {
     }
 
     public List<Region> getRegionsList() {
-        return regionsList;
+        return regionIndex.getRegions();
+    }
+
+    /**
+     * Chunk keyed index of {@link #getRegionsList()} used for build protection checks.
+     */
+    public RegionIndex getRegionIndex() {
+        return regionIndex;
     }
 
+    /**
+     * Role and team index of the players in this arena.
+     */
+    public PlayerIndex getPlayerIndex() {
+        return playerIndex;
+    }
+
+    /**
+     * Island lookup used by the movement checks. Built on first use, once the teams are loaded.
+     */
+    public ZoneIndex getZoneIndex() {
+        if (zoneIndex == null) {
+            zoneIndex = new ZoneIndex(this);
+        }
+        return zoneIndex;
+    }
+
+    @Deprecated
     public LinkedList<Vector> getPlaced() {
+        return placed.toVectorList();
+    }
+
+    @Override
+    public IPlacedBlocks getPlacedBlocks() {
         return placed;
     }
 
@@ -2416,8 +2435,7 @@ public class Arena implements IArena {
 
     public void destroyData() {
         destroyReJoins();
-        if (worldName != null) arenaByIdentifier.remove(worldName);
-        arenas.remove(this);
+        registry.unregister(this, worldName);
         for (ReJoinTask rjt : ReJoinTask.getReJoinTasks()) {
             if (rjt.getArena() == this) {
                 rjt.destroy();
@@ -2437,10 +2455,10 @@ public class Arena implements IArena {
             }
             dragonBossbars = null;
         }
-        arenaByName.remove(arenaName);
-        arenaByPlayer.entrySet().removeIf(entry -> entry.getValue() == this);
+        registry.removeName(arenaName);
         players = null;
         spectators = null;
+        playerIndex.clear();
         signs = null;
         yml = null;
         cm = null;
@@ -2456,7 +2474,9 @@ public class Arena implements IArena {
         teams = null;
         placed = null;
         nextEvents = null;
-        regionsList = null;
+        debug("Region index stats for " + arenaName + ": " + regionIndex.getLookups() + " lookups, " + regionIndex.getHits() + " hits.");
+        regionIndex = null;
+        zoneIndex = null;
         respawnSessions = null;
         showTime = null;
         playerKills = null;
@@ -2681,6 +2701,7 @@ public class Arena implements IArena {
         if (team != null) {
             //noinspection deprecation
             team.getMembersCache().removeIf(cachedPlayer -> cachedPlayer.getUniqueId().equals(player.getUniqueId()));
+            playerIndex.removeExTeam(player.getUniqueId());
             ReJoin rejoin = ReJoin.getPlayer(player);
             if (rejoin != null) {
                 rejoin.destroy(team.getMembers().isEmpty());
@@ -2751,6 +2772,21 @@ public class Arena implements IArena {
         }
     }
 
+    /**
+     * Generator holograms sent with packets keep track of their viewers,
+     * the client drops them when leaving the arena world.
+     */
+    private void removeHologramViewer(Player player) {
+        for (IGenerator o : getOreGenerators()) {
+            o.removeHologramViewer(player);
+        }
+        for (ITeam t : getTeams()) {
+            for (IGenerator o : t.getGenerators()) {
+                o.removeHologramViewer(player);
+            }
+        }
+    }
+
     /**
      * Dragon bossbar custom names
      * Use only for 1.8 servers as they don't support BossBar packets
@@ -39,10 +39,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 public class ArenaGUI {
 
@@ -50,65 +47,137 @@ public class ArenaGUI {
 
     private static final HashMap<UUID, Long> antiCalledTwice = new HashMap<>();
 
+    // players with the selector open
+    private static final HashMap<UUID, ArenaSelectorHolder> viewers = new HashMap<>();
+    // rendered arena items by language iso
+    private static final HashMap<IArena, HashMap<String, RenderedItem>> rendered = new HashMap<>();
+    private static boolean refreshScheduled = false;
+
+    /**
+     * Refresh the open arena selectors on the next tick.
+     * Calls made during the same tick are merged into a single refresh.
+     */
+    public static void requestRefresh() {
+        if (refreshScheduled || viewers.isEmpty()) return;
+        refreshScheduled = true;
+        Bukkit.getScheduler().runTask(BedWars.plugin, () -> {
+            refreshScheduled = false;
+            refreshViewers();
+        });
+    }
+
+    /**
+     * Refresh the arena selector of a player.
+     *
+     * @deprecated the open selectors are refreshed together and read the player count from the arena.
+     * Use {@link #requestRefresh()}.
+     */
+    @Deprecated
     public static void refreshInv(Player player, IArena arena, int players) {
-        if (player == null || player.getOpenInventory() == null || !(player.getOpenInventory().getTopInventory().getHolder() instanceof ArenaSelectorHolder)) {
-            return;
-        }
-        ArenaSelectorHolder arenaSelectorHolder = ((ArenaSelectorHolder) player.getOpenInventory().getTopInventory().getHolder());
+        requestRefresh();
+    }
 
-        List<IArena> arenas;
-        if (arenaSelectorHolder.getGroup().equalsIgnoreCase("default")) {
-            arenas = new ArrayList<>(Arena.getArenas());
-        } else {
-            arenas = new ArrayList<>();
-            for (IArena a : Arena.getArenas()) {
-                if (a.getGroup().equalsIgnoreCase(arenaSelectorHolder.getGroup())) arenas.add(a);
+    private static void refreshViewers() {
+        rendered.keySet().retainAll(ArenaRegistry.getInstance().getArenas());
+
+        // sorted once per group, all the viewers of a group see the same order
+        HashMap<String, List<IArena>> sortedByGroup = new HashMap<>();
+        List<Integer> usedSlots = getUsedSlots();
+        Iterator<Map.Entry<UUID, ArenaSelectorHolder>> iterator = viewers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, ArenaSelectorHolder> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            ArenaSelectorHolder holder = entry.getValue();
+            if (player == null || player.getOpenInventory() == null || player.getOpenInventory().getTopInventory().getHolder() != holder) {
+                iterator.remove();
+                continue;
             }
+            List<IArena> arenas = sortedByGroup.computeIfAbsent(holder.getGroup().toLowerCase(), g -> Arena.getSorted(getGroupArenas(holder.getGroup())));
+            refreshInv(player, holder, arenas, usedSlots);
         }
+    }
 
-        arenas = Arena.getSorted(arenas);
+    private static List<IArena> getGroupArenas(String group) {
+        if (group.equalsIgnoreCase("default")) {
+            return ArenaRegistry.getInstance().getArenas();
+        }
+        List<IArena> arenas = new ArrayList<>();
+        for (IArena a : ArenaRegistry.getInstance().getArenas()) {
+            if (a.getGroup().equalsIgnoreCase(group)) arenas.add(a);
+        }
+        return arenas;
+    }
 
-        List<Integer> usedSlots = getUsedSlots();
-        for (int i = 0; i < usedSlots.size() && i < arenas.size(); i++) {
-            IArena currentArena = arenas.get(i);
-            String status = currentArena.getStatus().toString().toLowerCase();
-
-            ItemStack item;
-
-            item = BedWars.nms.createItemStack(yml.getString(ConfigPath.GENERAL_CONFIGURATION_ARENA_SELECTOR_STATUS_MATERIAL.replace("%path%", status)),
-                    1, (short) yml.getInt(ConfigPath.GENERAL_CONFIGURATION_ARENA_SELECTOR_STATUS_DATA.replace("%path%", status)));
-            if (yml.getBoolean(ConfigPath.GENERAL_CONFIGURATION_ARENA_SELECTOR_STATUS_ENCHANTED.replace("%path%", status))) {
-                ItemMeta im = item.getItemMeta();
-                im.addEnchant(Enchantment.LURE, 1, true);
-                im.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-                item.setItemMeta(im);
-            }
+    /**
+     * Update the slots of an open selector which changed since the last refresh.
+     */
+    private static void refreshInv(Player player, ArenaSelectorHolder holder, List<IArena> arenas, List<Integer> usedSlots) {
+        Language language = Language.getPlayerLanguage(player);
+        Inventory inventory = player.getOpenInventory().getTopInventory();
+        boolean changed = false;
 
+        for (int i = 0; i < usedSlots.size(); i++) {
+            int slot = usedSlots.get(i);
+            if (slot < 0 || slot >= inventory.getSize()) continue;
+            ItemStack item = i < arenas.size() ? getItem(arenas.get(i), language) : null;
+            if (holder.shown.get(slot) == item) continue;
+            holder.shown.put(slot, item);
+            inventory.setItem(slot, item);
+            changed = true;
+        }
+        if (changed) {
+            player.updateInventory();
+        }
+    }
 
+    /**
+     * Get the selector item of an arena, rendered again only when the arena state changed.
+     */
+    private static ItemStack getItem(IArena arena, Language language) {
+        String state = arena.getStatus() + ":" + arena.getPlayers().size() + ":" + arena.getMaxPlayers() + ":" + arena.getDisplayName();
+        HashMap<String, RenderedItem> byLanguage = rendered.computeIfAbsent(arena, a -> new HashMap<>());
+        RenderedItem cached = byLanguage.get(language.getIso());
+        if (cached != null && cached.state.equals(state)) {
+            return cached.item;
+        }
+        ItemStack item = createItem(arena, language);
+        byLanguage.put(language.getIso(), new RenderedItem(state, item));
+        return item;
+    }
+
+    private static ItemStack createItem(IArena currentArena, Language language) {
+        String status = currentArena.getStatus().toString().toLowerCase();
+
+        ItemStack item;
+
+        item = BedWars.nms.createItemStack(yml.getString(ConfigPath.GENERAL_CONFIGURATION_ARENA_SELECTOR_STATUS_MATERIAL.replace("%path%", status)),
+                1, (short) yml.getInt(ConfigPath.GENERAL_CONFIGURATION_ARENA_SELECTOR_STATUS_DATA.replace("%path%", status)));
+        if (yml.getBoolean(ConfigPath.GENERAL_CONFIGURATION_ARENA_SELECTOR_STATUS_ENCHANTED.replace("%path%", status))) {
             ItemMeta im = item.getItemMeta();
-            im.setDisplayName(Language.getMsg(player, Messages.ARENA_GUI_ARENA_CONTENT_NAME).replace("%bw_name%", arenas.get(i).getDisplayName()).replace("%bw_map_name%", arenas.get(i).getArenaName()));
-            List<String> lore = new ArrayList<>();
-            for (String loreLine : Language.getList(player, Messages.ARENA_GUI_ARENA_CONTENT_LORE)) {
-                if (!(loreLine.contains("%bw_group%") && currentArena.getGroup().equalsIgnoreCase("default"))) {
-                    String arenaStatus = currentArena.getDisplayStatus(Language.getPlayerLanguage(player));
-                    String arenaGroup = currentArena.getDisplayGroup(player);
-                    int currentPlayers = (arena != null && arena == currentArena) ? players : currentArena.getPlayers().size();
-                    lore.add(loreLine
-                            .replace("%bw_on%", String.valueOf(currentPlayers))
-                            .replace("%bw_max%", String.valueOf(currentArena.getMaxPlayers()))
-                            .replace("%bw_arena_status%", arenaStatus)
-                            .replace("%bw_group%", arenaGroup)
-                    );
-                }
-            }
-            im.setLore(lore);
+            im.addEnchant(Enchantment.LURE, 1, true);
+            im.addItemFlags(ItemFlag.HIDE_ENCHANTS);
             item.setItemMeta(im);
-            item = BedWars.nms.addCustomData(item, ArenaSelectorListener.ARENA_SELECTOR_GUI_IDENTIFIER + currentArena.getArenaName());
+        }
 
-            int slot = usedSlots.get(i);
-            player.getOpenInventory().getTopInventory().setItem(slot, item);
+
+        ItemMeta im = item.getItemMeta();
+        im.setDisplayName(language.m(Messages.ARENA_GUI_ARENA_CONTENT_NAME).replace("%bw_name%", currentArena.getDisplayName()).replace("%bw_map_name%", currentArena.getArenaName()));
+        String arenaStatus = currentArena.getDisplayStatus(language);
+        String arenaGroup = currentArena.getDisplayGroup(language);
+        List<String> lore = new ArrayList<>();
+        for (String loreLine : language.l(Messages.ARENA_GUI_ARENA_CONTENT_LORE)) {
+            if (!(loreLine.contains("%bw_group%") && currentArena.getGroup().equalsIgnoreCase("default"))) {
+                lore.add(loreLine
+                        .replace("%bw_on%", String.valueOf(currentArena.getPlayers().size()))
+                        .replace("%bw_max%", String.valueOf(currentArena.getMaxPlayers()))
+                        .replace("%bw_arena_status%", arenaStatus)
+                        .replace("%bw_group%", arenaGroup)
+                );
+            }
         }
-        player.updateInventory();
+        im.setLore(lore);
+        item.setItemMeta(im);
+        return BedWars.nms.addCustomData(item, ArenaSelectorListener.ARENA_SELECTOR_GUI_IDENTIFIER + currentArena.getArenaName());
     }
 
     public static void openGui(Player player, String group) {
@@ -158,13 +227,18 @@ public class ArenaGUI {
         }
 
         player.openInventory(inventory);
-        refreshInv(player, null, 0);
+        if (player.getOpenInventory() != null && player.getOpenInventory().getTopInventory().getHolder() == arenaSelectorHolder) {
+            viewers.put(player.getUniqueId(), arenaSelectorHolder);
+            refreshInv(player, arenaSelectorHolder, Arena.getSorted(getGroupArenas(group)), getUsedSlots());
+        }
         Sounds.playSound("arena-selector-open", player);
     }
 
     public static class ArenaSelectorHolder implements InventoryHolder {
 
         private final String group;
+        // items currently in the arena slots
+        private final HashMap<Integer, ItemStack> shown = new HashMap<>();
 
         public ArenaSelectorHolder(String group){
             this.group = group;
@@ -194,6 +268,16 @@ public class ArenaGUI {
         return ls;
     }
 
+    private static final class RenderedItem {
+        private final String state;
+        private final ItemStack item;
+
+        private RenderedItem(String state, ItemStack item) {
+            this.state = state;
+            this.item = item;
+        }
+    }
+
     private static boolean preventCalledTwice(@NotNull Player player) {
         return antiCalledTwice.getOrDefault(player.getUniqueId(), 0L) > System.currentTimeMillis();
     }
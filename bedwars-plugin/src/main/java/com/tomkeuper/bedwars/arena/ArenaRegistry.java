@@ -0,0 +1,116 @@
+package com.tomkeuper.bedwars.arena;
+
+import com.tomkeuper.bedwars.api.arena.IArena;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the static arena lookups.
+ * Written from the main thread and read from any thread (TAB placeholders, PAPI, redis listeners),
+ * so the indexes are concurrent maps and the arena list is replaced on write instead of being modified.
+ * Players are indexed by {@link UUID} so a stale {@link org.bukkit.entity.Player} instance is never kept.
+ */
+public final class ArenaRegistry {
+
+    private static final ArenaRegistry INSTANCE = new ArenaRegistry();
+
+    private final Map<String, IArena> byName = new ConcurrentHashMap<>();
+    private final Map<String, IArena> byIdentifier = new ConcurrentHashMap<>();
+    private final Map<UUID, IArena> byPlayer = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> afkCheck = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> magicMilk = new ConcurrentHashMap<>();
+    private volatile List<IArena> arenas = Collections.emptyList();
+
+    private ArenaRegistry() {
+    }
+
+    public static ArenaRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Add a loaded arena to the arena list and to the name and world indexes.
+     */
+    public void register(@NotNull IArena arena, @NotNull String worldName) {
+        synchronized (this) {
+            LinkedList<IArena> copy = new LinkedList<>(arenas);
+            copy.add(arena);
+            arenas = Collections.unmodifiableList(copy);
+        }
+        byName.put(arena.getArenaName(), arena);
+        byIdentifier.put(worldName, arena);
+    }
+
+    /**
+     * Remove an arena from the arena list, the world index and the player index.
+     * The name index is handled separately because a restarting arena keeps its name.
+     */
+    public void unregister(@NotNull IArena arena, @Nullable String worldName) {
+        synchronized (this) {
+            if (arenas.contains(arena)) {
+                LinkedList<IArena> copy = new LinkedList<>(arenas);
+                copy.remove(arena);
+                arenas = Collections.unmodifiableList(copy);
+            }
+        }
+        if (worldName != null) byIdentifier.remove(worldName, arena);
+        byPlayer.values().removeIf(a -> a == arena);
+    }
+
+    /**
+     * Current arenas. The returned list is a read only snapshot and is not updated by later changes.
+     */
+    public List<IArena> getArenas() {
+        return arenas;
+    }
+
+    public @Nullable IArena getByName(@Nullable String name) {
+        return name == null ? null : byName.get(name);
+    }
+
+    public void putName(@NotNull IArena arena) {
+        byName.put(arena.getArenaName(), arena);
+    }
+
+    public void removeName(@NotNull String name) {
+        byName.remove(name);
+    }
+
+    public @Nullable IArena getByIdentifier(@Nullable String worldName) {
+        return worldName == null ? null : byIdentifier.get(worldName);
+    }
+
+    public @Nullable IArena getByPlayer(@Nullable UUID player) {
+        return player == null ? null : byPlayer.get(player);
+    }
+
+    public void putPlayer(@NotNull UUID player, @NotNull IArena arena) {
+        byPlayer.put(player, arena);
+    }
+
+    public void removePlayer(@NotNull UUID player) {
+        byPlayer.remove(player);
+    }
+
+    /**
+     * Read only view of the player index.
+     */
+    public Map<UUID, IArena> getPlayers() {
+        return Collections.unmodifiableMap(byPlayer);
+    }
+
+    public Map<UUID, Integer> getAfkCheck() {
+        return afkCheck;
+    }
+
+    public Map<UUID, Integer> getMagicMilk() {
+        return magicMilk;
+    }
+}
@@ -388,6 +388,9 @@ public class Misc {
      * Check if location is on a protected region
      */
     public static boolean isBuildProtected(Location l, IArena a) {
+        if (a instanceof Arena) {
+            return ((Arena) a).getRegionIndex().isBuildProtected(l);
+        }
         for (Region region : a.getRegionsList()){
             if (region.isInRegion(l)){
                 return true;
@@ -396,6 +399,22 @@ public class Misc {
         return isOutsideOfBorder(l);
     }
 
+    /**
+     * Check if location is on a region flagged as protected.
+     * Unlike {@link #isBuildProtected(Location, IArena)} this does not check the world border.
+     */
+    public static boolean isInProtectedRegion(Location l, IArena a) {
+        if (a instanceof Arena) {
+            return ((Arena) a).getRegionIndex().isInProtectedRegion(l);
+        }
+        for (Region region : a.getRegionsList()) {
+            if (region.isInRegion(l) && region.isProtected()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get lower location between 2 locations.
      *
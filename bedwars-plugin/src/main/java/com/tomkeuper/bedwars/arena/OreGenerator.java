@@ -30,9 +30,11 @@ import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import com.tomkeuper.bedwars.api.events.gameplay.GeneratorUpgradeEvent;
 import com.tomkeuper.bedwars.api.events.gameplay.GeneratorDropEvent;
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.region.Cuboid;
+import com.tomkeuper.bedwars.arena.tasks.GeneratorScheduler;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -43,7 +45,10 @@ import org.bukkit.util.EulerAngle;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 @SuppressWarnings("WeakerAccess")
@@ -57,19 +62,26 @@ public class OreGenerator implements IGenerator {
     private IArena arena;
     private ItemStack ore;
     private GeneratorType type;
-    private int rotate = 0, dropID = 0;
+    private int frame = -1, dropID = 0;
+    private boolean idle = false;
+    private int lastRenderedSeconds = -1;
     private ITeam bwt;
-    boolean up = true, disabled = false;
+    boolean disabled = false;
 
     /**
      * Generator holograms per language <iso, holo></iso,>
      */
     private HashMap<String, IGenHolo> armorStands = new HashMap<>();
+    /**
+     * Language iso of the packet holograms shown to a player.
+     */
+    private final HashMap<UUID, String> hologramViewers = new HashMap<>();
 
     private ArmorStand item;
     public boolean stack = BedWars.getGeneratorsCfg().getBoolean(ConfigPath.GENERATOR_STACK_ITEMS);
 
     private static final ConcurrentLinkedDeque<OreGenerator> rotation = new ConcurrentLinkedDeque<>();
+    private static final EulerAngle[] ROTATION_FRAMES = buildRotationFrames();
 
     public OreGenerator(Location location, IArena arena, GeneratorType type, ITeam bwt) {
         if (type == GeneratorType.EMERALD || type == GeneratorType.DIAMOND) {
@@ -154,15 +166,21 @@ public class OreGenerator implements IGenerator {
             lastSpawn = delay - 1;
 
             if (spawnLimit != 0) {
-                int oreCount = 0;
-
-                for (Entity e : location.getWorld().getNearbyEntities(location, 3, 3, 3)) {
-                    if (e.getType() == EntityType.DROPPED_ITEM) {
-                        Item i = (Item) e;
-                        if (i.getItemStack().getType() == ore.getType()) {
-                            oreCount++;
+                GeneratorScheduler scheduler = GeneratorScheduler.getInstance();
+                if (scheduler != null) {
+                    // dropped items are tracked by the scheduler, no need to scan the entities
+                    if (scheduler.getDropCount(this, spawnLimit) >= spawnLimit) return;
+                } else {
+                    int oreCount = 0;
+
+                    for (Entity e : location.getWorld().getNearbyEntities(location, 3, 3, 3)) {
+                        if (e.getType() == EntityType.DROPPED_ITEM) {
+                            Item i = (Item) e;
+                            if (i.getItemStack().getType() == ore.getType()) {
+                                oreCount++;
+                            }
+                            if (oreCount >= spawnLimit) return;
                         }
-                        if (oreCount >= spawnLimit) return;
                     }
                 }
             }
@@ -177,8 +195,13 @@ public class OreGenerator implements IGenerator {
             return;
         }
         lastSpawn--;
+        // spawn runs speedMultiplier times per second, only push the name when the displayed value changes
+        int seconds = (int) Math.ceil(lastSpawn / speedMultiplier);
+        if (seconds == lastRenderedSeconds) return;
+        lastRenderedSeconds = seconds;
+        String value = String.valueOf(seconds);
         for (IGenHolo e : armorStands.values()) {
-            e.setTimerName(Language.getLang(e.getIso()).m(Messages.GENERATOR_HOLOGRAM_TIMER).replace("%bw_seconds%", String.valueOf((int) Math.ceil(lastSpawn/speedMultiplier))));
+            e.setTimerName(Language.getLang(e.getIso()).getTemplate(Messages.GENERATOR_HOLOGRAM_TIMER).format("%bw_seconds%", value));
         }
     }
 
@@ -192,6 +215,9 @@ public class OreGenerator implements IGenerator {
             }
             Item item = location.getWorld().dropItem(location, itemStack);
             item.setVelocity(new Vector(0, 0, 0));
+            if (GeneratorScheduler.getInstance() != null) {
+                GeneratorScheduler.getInstance().trackDrop(this, item);
+            }
         }
     }
 
@@ -234,8 +260,8 @@ public class OreGenerator implements IGenerator {
             this.iso = iso;
             this.tier = createArmorStand(Language.getLang(iso).m(Messages.GENERATOR_HOLOGRAM_TIER)
                     .replace("%bw_tier%", Language.getLang(iso).m(Messages.FORMATTING_GENERATOR_TIER1)), location.clone().add(0, 3, 0));
-            this.timer = createArmorStand(Language.getLang(iso).m(Messages.GENERATOR_HOLOGRAM_TIMER)
-                    .replace("%bw_seconds%", String.valueOf(lastSpawn)), location.clone().add(0, 2.4, 0));
+            this.timer = createArmorStand(Language.getLang(iso).getTemplate(Messages.GENERATOR_HOLOGRAM_TIMER)
+                    .format("%bw_seconds%", String.valueOf(Math.max(lastRenderedSeconds, 0))), location.clone().add(0, 2.4, 0));
             this.name = createArmorStand(Language.getLang(iso).m(getOre().getType() == Material.DIAMOND ? Messages.GENERATOR_HOLOGRAM_TYPE_DIAMOND
                     : Messages.GENERATOR_HOLOGRAM_TYPE_EMERALD), location.clone().add(0, 2.7, 0));
 
@@ -284,6 +310,99 @@ public class OreGenerator implements IGenerator {
         }
     }
 
+    /**
+     * Generator hologram sent with packets only to the players using its language,
+     * so no entity is spawned in the world for each language.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public class PacketHoloGram implements IGenHolo {
+        String iso;
+        PacketHologram tier, timer, name;
+
+        public PacketHoloGram(String iso) {
+            this.iso = iso;
+            this.tier = BedWars.nms.createPacketHologram(location.clone().add(0, 3, 0), Language.getLang(iso).m(Messages.GENERATOR_HOLOGRAM_TIER)
+                    .replace("%bw_tier%", Language.getLang(iso).m(Messages.FORMATTING_GENERATOR_TIER1)));
+            this.timer = BedWars.nms.createPacketHologram(location.clone().add(0, 2.4, 0), Language.getLang(iso).getTemplate(Messages.GENERATOR_HOLOGRAM_TIMER)
+                    .format("%bw_seconds%", String.valueOf(Math.max(lastRenderedSeconds, 0))));
+            this.name = BedWars.nms.createPacketHologram(location.clone().add(0, 2.7, 0), Language.getLang(iso).m(getOre().getType() == Material.DIAMOND ? Messages.GENERATOR_HOLOGRAM_TYPE_DIAMOND
+                    : Messages.GENERATOR_HOLOGRAM_TYPE_EMERALD));
+        }
+
+        /**
+         * @return false if the server version does not support packet holograms.
+         */
+        public boolean isSupported() {
+            return tier != null && timer != null && name != null;
+        }
+
+        @Override
+        public void updateForAll() {
+            for (Player p2 : location.getWorld().getPlayers()) {
+                updateForPlayer(p2, Language.getPlayerLanguage(p2).getIso());
+            }
+        }
+
+        @Override
+        public void updateForPlayer(Player p, String lang) {
+            if (lang.equalsIgnoreCase(iso) && p.getWorld() == location.getWorld() && isInViewDistance(p.getLocation(), location)) {
+                tier.show(p);
+                timer.show(p);
+                name.show(p);
+            } else {
+                tier.hide(p);
+                timer.hide(p);
+                name.hide(p);
+            }
+        }
+
+        public void forget(Player p) {
+            tier.forget(p);
+            timer.forget(p);
+            name.forget(p);
+        }
+
+        @Override
+        public void setTierName(String name) {
+            tier.setText(name);
+        }
+
+        @Override
+        public String getIso() {
+            return iso;
+        }
+
+        @Override
+        public void setTimerName(String name) {
+            timer.setText(name);
+        }
+
+        @Override
+        public void destroy() {
+            tier.destroy();
+            timer.destroy();
+            name.destroy();
+        }
+    }
+
+    /**
+     * Check if the chunk of the target is within the server view distance from the viewer chunk.
+     * The client drops entities in unloaded chunks, so packet holograms are sent again when the player comes back.
+     */
+    public static boolean isInViewDistance(Location viewer, Location target) {
+        int distance = Bukkit.getViewDistance();
+        return Math.abs((viewer.getBlockX() >> 4) - (target.getBlockX() >> 4)) <= distance
+                && Math.abs((viewer.getBlockZ() >> 4) - (target.getBlockZ() >> 4)) <= distance;
+    }
+
+    private IGenHolo createHologram(String iso) {
+        if (BedWars.config.getBoolean(ConfigPath.GENERAL_CONFIGURATION_PERFORMANCE_PACKET_GENERATOR_HOLOGRAMS)) {
+            PacketHoloGram holo = new PacketHoloGram(iso);
+            if (holo.isSupported()) return holo;
+        }
+        return new HoloGram(iso);
+    }
+
     private static ArmorStand createArmorStand(String name, Location l) {
         ArmorStand a = (ArmorStand) l.getWorld().spawnEntity(l, EntityType.ARMOR_STAND);
         a.setGravity(false);
@@ -302,39 +421,68 @@ public class OreGenerator implements IGenerator {
 
     @Override
     public void rotate() {
-        if (up) {
-            if (rotate >= 540) {
-                up = false;
-            }
-            if (rotate > 500) {
-                item.setHeadPose(new EulerAngle(0, Math.toRadians(rotate += 1), 0));
-            } else if (rotate > 470) {
-                item.setHeadPose(new EulerAngle(0, Math.toRadians(rotate += 2), 0));
-                /*item.teleport(item.getLocation().add(0, 0.005D, 0));*/
-            } else if (rotate > 450) {
-                item.setHeadPose(new EulerAngle(0, Math.toRadians(rotate += 3), 0));
-                /*item.teleport(item.getLocation().add(0, 0.001D, 0));*/
-            } else {
-                item.setHeadPose(new EulerAngle(0, Math.toRadians(rotate += 4), 0));
-                /*item.teleport(item.getLocation().add(0, 0.002D, 0));*/
-            }
-        } else {
-            if (rotate <= 0) {
-                up = true;
+        animate(frame + 1);
+    }
+
+    /**
+     * Show the rotation frame for the given animation clock tick.
+     * Generators sharing the clock rotate in sync and a generator resumed after being idle jumps to the current frame.
+     */
+    public void animate(int tick) {
+        int f = Math.floorMod(tick, ROTATION_FRAMES.length);
+        if (f == frame || item == null) return;
+        frame = f;
+        item.setHeadPose(ROTATION_FRAMES[f]);
+    }
+
+    /**
+     * Idle generators are not animated because no player is close enough to see them.
+     */
+    public boolean isIdle() {
+        return idle;
+    }
+
+    public void setIdle(boolean idle) {
+        this.idle = idle;
+    }
+
+    /**
+     * Precompute the rotation curve: speeds up going forward, slows down close to the turning points
+     * and then goes back. EulerAngle is immutable so the frames are shared by all the generators.
+     */
+    private static EulerAngle[] buildRotationFrames() {
+        // run the curve until it loops and keep a single period
+        HashMap<Integer, Integer> seen = new HashMap<>();
+        List<Integer> degrees = new ArrayList<>();
+        int rotate = 0;
+        boolean up = true;
+        while (true) {
+            int state = rotate * 2 + (up ? 1 : 0);
+            Integer loopStart = seen.putIfAbsent(state, degrees.size());
+            if (loopStart != null) {
+                degrees = degrees.subList(loopStart, degrees.size());
+                break;
             }
-            if (rotate > 120) {
-                item.setHeadPose(new EulerAngle(0, Math.toRadians(rotate -= 4), 0));
-                /*item.teleport(item.getLocation().subtract(0, 0.002D, 0));*/
-            } else if (rotate > 90) {
-                item.setHeadPose(new EulerAngle(0, Math.toRadians(rotate -= 3), 0));
-                /*item.teleport(item.getLocation().add(0, 0.001D, 0));*/
-            } else if (rotate > 70) {
-                item.setHeadPose(new EulerAngle(0, Math.toRadians(rotate -= 2), 0));
-                /*item.teleport(item.getLocation().add(0, 0.005D, 0));*/
+            if (up) {
+                if (rotate >= 540) up = false;
+                if (rotate > 500) rotate += 1;
+                else if (rotate > 470) rotate += 2;
+                else if (rotate > 450) rotate += 3;
+                else rotate += 4;
             } else {
-                item.setHeadPose(new EulerAngle(0, Math.toRadians(rotate -= 1), 0));
+                if (rotate <= 0) up = true;
+                if (rotate > 120) rotate -= 4;
+                else if (rotate > 90) rotate -= 3;
+                else if (rotate > 70) rotate -= 2;
+                else rotate -= 1;
             }
+            degrees.add(rotate);
+        }
+        EulerAngle[] frames = new EulerAngle[degrees.size()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new EulerAngle(0, Math.toRadians(degrees.get(i)), 0);
         }
+        return frames;
     }
 
     @Override
@@ -373,6 +521,7 @@ public class OreGenerator implements IGenerator {
                 item.remove();
             }
             armorStands.clear();
+            hologramViewers.clear();
         }
         disabled = true;
     }
@@ -387,11 +536,35 @@ public class OreGenerator implements IGenerator {
 
     @Override
     public void updateHolograms(Player p, String iso) {
+        IGenHolo own = armorStands.get(iso);
+        if (own instanceof PacketHoloGram) {
+            // packet holograms are only sent to their language, so only the previously shown one may need to be hidden
+            String previous = hologramViewers.put(p.getUniqueId(), iso);
+            if (previous != null && !previous.equals(iso)) {
+                IGenHolo old = armorStands.get(previous);
+                if (old != null) {
+                    old.updateForPlayer(p, iso);
+                }
+            }
+            own.updateForPlayer(p, iso);
+            return;
+        }
         for (IGenHolo h : armorStands.values()) {
             h.updateForPlayer(p, iso);
         }
     }
 
+    @Override
+    public void removeHologramViewer(Player p) {
+        if (armorStands == null) return;
+        String iso = hologramViewers.remove(p.getUniqueId());
+        if (iso == null) return;
+        IGenHolo h = armorStands.get(iso);
+        if (h instanceof PacketHoloGram) {
+            ((PacketHoloGram) h).forget(p);
+        }
+    }
+
     @Override
     public void enableRotation() {
         //loadDefaults(false);
@@ -400,12 +573,19 @@ public class OreGenerator implements IGenerator {
         for (Language lan : Language.getLanguages()) {
             IGenHolo h = armorStands.get(lan.getIso());
             if (h == null) {
-                armorStands.put(lan.getIso(), new HoloGram(lan.getIso()));
+                armorStands.put(lan.getIso(), createHologram(lan.getIso()));
             }
         }
         for (IGenHolo hg : armorStands.values()) {
+            if (hg instanceof PacketHoloGram) continue;
             hg.updateForAll();
         }
+        for (Player p : location.getWorld().getPlayers()) {
+            IGenHolo hg = armorStands.get(Language.getPlayerLanguage(p).getIso());
+            if (hg instanceof PacketHoloGram) {
+                updateHolograms(p, hg.getIso());
+            }
+        }
 
         item = createArmorStand(null, location.clone().add(0, 0.5, 0));
         item.setHelmet(new ItemStack(type == GeneratorType.DIAMOND ? Material.DIAMOND_BLOCK : Material.EMERALD_BLOCK));
@@ -0,0 +1,183 @@
+package com.tomkeuper.bedwars.arena;
+
+import com.tomkeuper.bedwars.api.arena.IPlacedBlocks;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+/**
+ * Open addressing hash set of block positions packed in a long (26 bits x, 26 bits z, 12 bits y).
+ * Used to track player placed blocks with O(1) add, contains and remove.
+ * Not thread safe, it should only be modified from the main thread.
+ */
+public class PlacedBlockIndex implements IPlacedBlocks {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // 0 is used to mark empty slots, so the position packed to 0 is tracked separately
+    private long[] keys;
+    private boolean containsZero = false;
+    private int mask;
+    private int size = 0;
+    private int maxFill;
+
+    public PlacedBlockIndex() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    /**
+     * @return true if the position was not tracked yet.
+     */
+    public boolean add(int x, int y, int z) {
+        long key = pack(x, y, z);
+        if (key == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int pos = slot(key);
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) return false;
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        if (++size >= maxFill) rehash(keys.length * 2);
+        return true;
+    }
+
+    /**
+     * @return true if the position was tracked.
+     */
+    public boolean remove(int x, int y, int z) {
+        long key = pack(x, y, z);
+        if (key == 0) {
+            if (!containsZero) return false;
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int pos = slot(key);
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) {
+                size--;
+                shiftKeys(pos);
+                return true;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(int x, int y, int z) {
+        long key = pack(x, y, z);
+        if (key == 0) return containsZero;
+        int pos = slot(key);
+        long current;
+        while ((current = keys[pos]) != 0) {
+            if (current == key) return true;
+            pos = (pos + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(PositionConsumer consumer) {
+        if (containsZero) consumer.accept(0, 0, 0);
+        for (long key : keys) {
+            if (key == 0) continue;
+            consumer.accept(unpackX(key), unpackY(key), unpackZ(key));
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Copy the index to a list of vectors.
+     * Only used for backwards compatibility with {@link com.tomkeuper.bedwars.api.arena.IArena#getPlaced()}.
+     */
+    public LinkedList<Vector> toVectorList() {
+        LinkedList<Vector> list = new LinkedList<>();
+        forEach((x, y, z) -> list.add(new Vector(x, y, z)));
+        return list;
+    }
+
+    private int slot(long key) {
+        // golden ratio multiply, then fold the high bits into the masked low bits to spread the packed coordinates
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h ^= h >>> 16;
+        return (int) h & mask;
+    }
+
+    /**
+     * Backward shift deletion, keeps probe chains intact without tombstones.
+     */
+    private void shiftKeys(int pos) {
+        int last, next;
+        long current;
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+            while (true) {
+                if ((current = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                next = slot(current);
+                if (last <= pos ? last >= next || next > pos : last >= next && next > pos) break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] old = keys;
+        allocate(capacity);
+        for (long key : old) {
+            if (key == 0) continue;
+            int pos = slot(key);
+            while (keys[pos] != 0) {
+                pos = (pos + 1) & mask;
+            }
+            keys[pos] = key;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        maxFill = (int) (capacity * LOAD_FACTOR);
+    }
+}
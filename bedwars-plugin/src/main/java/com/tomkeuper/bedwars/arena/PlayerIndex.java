@@ -0,0 +1,112 @@
+package com.tomkeuper.bedwars.arena;
+
+import com.tomkeuper.bedwars.api.arena.team.ITeam;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Role and team of the players of an arena, keyed by {@link UUID}.
+ * Kept next to the arena player and spectator lists and the team member lists, which stay the
+ * source for iteration, so membership checks are a single lookup instead of a list scan.
+ * Entries are immutable and replaced on change because placeholders read them from other threads.
+ */
+public class PlayerIndex {
+
+    public enum Role {
+        PLAYER, SPECTATOR
+    }
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Set the role of a player in the arena.
+     */
+    public void setRole(@NotNull Player player, @NotNull Role role) {
+        entries.compute(player.getUniqueId(), (uuid, entry) -> entry == null
+                ? new Entry(player, role, null, null)
+                : new Entry(player, role, entry.team, entry.exTeam));
+    }
+
+    /**
+     * Clear the role of a player, if it is the given one.
+     */
+    public void removeRole(@NotNull Player player, @NotNull Role role) {
+        entries.computeIfPresent(player.getUniqueId(), (uuid, entry) -> entry.role != role ? entry
+                : Entry.of(entry.player, null, entry.team, entry.exTeam));
+    }
+
+    /**
+     * Set the current team of a player. It also becomes the player's ex team.
+     */
+    public void setTeam(@NotNull Player player, @NotNull ITeam team) {
+        entries.compute(player.getUniqueId(), (uuid, entry) -> entry == null
+                ? new Entry(player, null, team, team)
+                : new Entry(player, entry.role, team, team));
+    }
+
+    /**
+     * Remove a player from its current team. The ex team is kept.
+     */
+    public void removeTeam(@NotNull Player player) {
+        entries.computeIfPresent(player.getUniqueId(), (uuid, entry) -> Entry.of(entry.player, entry.role, null, entry.exTeam));
+    }
+
+    /**
+     * Forget the team a player was in.
+     */
+    public void removeExTeam(@NotNull UUID player) {
+        entries.computeIfPresent(player, (uuid, entry) -> Entry.of(entry.player, entry.role, entry.team, null));
+    }
+
+    public @Nullable Role getRole(@Nullable UUID player) {
+        Entry entry = player == null ? null : entries.get(player);
+        return entry == null ? null : entry.role;
+    }
+
+    /**
+     * Get the player instance with this uuid that was added to the arena.
+     */
+    public @Nullable Player getPlayer(@Nullable UUID player) {
+        Entry entry = player == null ? null : entries.get(player);
+        return entry == null ? null : entry.player;
+    }
+
+    public @Nullable ITeam getTeam(@Nullable UUID player) {
+        Entry entry = player == null ? null : entries.get(player);
+        return entry == null ? null : entry.team;
+    }
+
+    public @Nullable ITeam getExTeam(@Nullable UUID player) {
+        Entry entry = player == null ? null : entries.get(player);
+        return entry == null ? null : entry.exTeam;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final Player player;
+        private final Role role;
+        private final ITeam team, exTeam;
+
+        private Entry(Player player, Role role, ITeam team, ITeam exTeam) {
+            this.player = player;
+            this.role = role;
+            this.team = team;
+            this.exTeam = exTeam;
+        }
+
+        /**
+         * @return null if nothing is left to index, so the entry is removed.
+         */
+        private static Entry of(Player player, Role role, ITeam team, ITeam exTeam) {
+            return role == null && team == null && exTeam == null ? null : new Entry(player, role, team, exTeam);
+        }
+    }
+}
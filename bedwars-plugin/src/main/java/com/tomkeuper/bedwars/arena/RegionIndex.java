@@ -0,0 +1,192 @@
+package com.tomkeuper.bedwars.arena;
+
+import com.tomkeuper.bedwars.api.region.Cuboid;
+import com.tomkeuper.bedwars.api.region.Region;
+import org.bukkit.Location;
+import org.bukkit.WorldBorder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chunk keyed lookup of the protected regions of an arena.
+ * Cuboid regions are bucketed in a dense grid covering their bounding box, so a lookup only
+ * checks the regions overlapping the chunk of the given location. Other region types are checked everywhere.
+ * The grid is an immutable snapshot rebuilt when the regions list is modified.
+ * The world border can be changed at any time, so it is read again on every check.
+ */
+public class RegionIndex {
+
+    private static final Region[] EMPTY = new Region[0];
+    // fall back to a linear scan if an arena somehow defines regions spread over too many chunks
+    private static final int MAX_GRID_CELLS = 65536;
+
+    private final RegionList regions = new RegionList();
+    private Snapshot snapshot;
+
+    private long lookups = 0, hits = 0;
+
+    /**
+     * Mutable regions list backing the index. Changes are picked up at the next lookup.
+     */
+    public List<Region> getRegions() {
+        return regions;
+    }
+
+    /**
+     * Build the index.
+     * Called when the arena is enabled so the first block place does not pay for it.
+     */
+    public void build() {
+        this.snapshot = new Snapshot(regions);
+    }
+
+    /**
+     * Same behaviour as {@link Misc#isBuildProtected(Location, com.tomkeuper.bedwars.api.arena.IArena)}:
+     * true if the location is in any region or outside the world border.
+     */
+    public boolean isBuildProtected(Location location) {
+        Snapshot s = getSnapshot();
+        lookups++;
+        for (Region region : s.getCandidates(location.getBlockX(), location.getBlockZ())) {
+            if (region.isInRegion(location)) {
+                hits++;
+                return true;
+            }
+        }
+        boolean outside = isOutsideOfBorder(location);
+        if (outside) hits++;
+        return outside;
+    }
+
+    /**
+     * Check if the location is in a region flagged as protected.
+     * The world border is not checked.
+     */
+    public boolean isInProtectedRegion(Location location) {
+        Snapshot s = getSnapshot();
+        lookups++;
+        for (Region region : s.getCandidates(location.getBlockX(), location.getBlockZ())) {
+            if (region.isProtected() && region.isInRegion(location)) {
+                hits++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    private Snapshot getSnapshot() {
+        if (snapshot == null || snapshot.version != regions.getVersion()) {
+            snapshot = new Snapshot(regions);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Same result as {@link Misc#isOutsideOfBorder(Location)} without the square root.
+     */
+    private static boolean isOutsideOfBorder(Location l) {
+        WorldBorder border = l.getWorld().getWorldBorder();
+        double radius = (border.getSize() / 2) + border.getWarningDistance();
+        Location center = border.getCenter();
+        double dx = l.getX() - center.getX(), dy = l.getY() - center.getY(), dz = l.getZ() - center.getZ();
+        return dx * dx + dy * dy + dz * dz >= radius * radius;
+    }
+
+    private static class Snapshot {
+
+        private final int version;
+        private final Region[] global;
+        private final Region[][] cells;
+        private final int minChunkX, minChunkZ, width, depth;
+
+        private Snapshot(RegionList regions) {
+            this.version = regions.getVersion();
+
+            List<Region> global = new ArrayList<>();
+            List<Cuboid> cuboids = new ArrayList<>();
+            int minCX = Integer.MAX_VALUE, minCZ = Integer.MAX_VALUE, maxCX = Integer.MIN_VALUE, maxCZ = Integer.MIN_VALUE;
+            for (Region region : regions) {
+                if (region instanceof Cuboid) {
+                    Cuboid c = (Cuboid) region;
+                    cuboids.add(c);
+                    minCX = Math.min(minCX, c.getMinX() >> 4);
+                    minCZ = Math.min(minCZ, c.getMinZ() >> 4);
+                    maxCX = Math.max(maxCX, c.getMaxX() >> 4);
+                    maxCZ = Math.max(maxCZ, c.getMaxZ() >> 4);
+                } else if (region != null) {
+                    global.add(region);
+                }
+            }
+
+            long cellCount = cuboids.isEmpty() ? 0 : (long) (maxCX - minCX + 1) * (maxCZ - minCZ + 1);
+            if (cellCount == 0 || cellCount > MAX_GRID_CELLS) {
+                global.addAll(cuboids);
+                this.global = global.toArray(EMPTY);
+                this.minChunkX = 0;
+                this.minChunkZ = 0;
+                this.width = 0;
+                this.depth = 0;
+                this.cells = new Region[0][];
+            } else {
+                this.global = global.toArray(EMPTY);
+                this.minChunkX = minCX;
+                this.minChunkZ = minCZ;
+                this.width = maxCX - minCX + 1;
+                this.depth = maxCZ - minCZ + 1;
+
+                @SuppressWarnings("unchecked")
+                List<Region>[] buckets = new List[width * depth];
+                for (Cuboid c : cuboids) {
+                    for (int cx = c.getMinX() >> 4; cx <= c.getMaxX() >> 4; cx++) {
+                        for (int cz = c.getMinZ() >> 4; cz <= c.getMaxZ() >> 4; cz++) {
+                            int i = (cx - minChunkX) * depth + (cz - minChunkZ);
+                            if (buckets[i] == null) buckets[i] = new ArrayList<>();
+                            buckets[i].add(c);
+                        }
+                    }
+                }
+                this.cells = new Region[buckets.length][];
+                for (int i = 0; i < buckets.length; i++) {
+                    List<Region> bucket = buckets[i];
+                    if (bucket == null) {
+                        cells[i] = this.global;
+                    } else {
+                        bucket.addAll(global);
+                        cells[i] = bucket.toArray(EMPTY);
+                    }
+                }
+            }
+        }
+
+        private Region[] getCandidates(int x, int z) {
+            int cx = (x >> 4) - minChunkX, cz = (z >> 4) - minChunkZ;
+            if (cx < 0 || cz < 0 || cx >= width || cz >= depth) return global;
+            return cells[cx * depth + cz];
+        }
+    }
+
+    /**
+     * Regions list keeping track of modifications so the index knows when to rebuild.
+     */
+    private static class RegionList extends ArrayList<Region> {
+
+        private int getVersion() {
+            return modCount;
+        }
+
+        @Override
+        public Region set(int index, Region element) {
+            modCount++;
+            return super.set(index, element);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tomkeuper.bedwars.arena;
+
+import com.tomkeuper.bedwars.api.arena.IArena;
+import com.tomkeuper.bedwars.api.arena.team.ITeam;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chunk keyed lookup of the team islands of an arena.
+ * Each chunk column holds the teams whose island sphere (bed location and island radius) reaches it,
+ * so classifying a location only checks those teams using squared distances.
+ * Built once from the team beds, which do not change while the arena is loaded.
+ */
+public class ZoneIndex {
+
+    private static final ITeam[] EMPTY = new ITeam[0];
+    /**
+     * Distance to the own bed under which the bed hologram is hidden.
+     */
+    public static final double BED_HOLO_RADIUS = 4;
+
+    private final Map<Long, ITeam[]> columns = new HashMap<>();
+    private final double islandRadiusSquared;
+    private final int voidHeight;
+
+    public ZoneIndex(IArena arena) {
+        int radius = arena.getIslandRadius();
+        this.islandRadiusSquared = (double) radius * radius;
+        this.voidHeight = arena.getYKillHeight();
+
+        Map<Long, List<ITeam>> build = new HashMap<>();
+        for (ITeam team : arena.getTeams()) {
+            Location bed = team.getBed();
+            if (bed == null) continue;
+            int minX = (bed.getBlockX() - radius - 1) >> 4, maxX = (bed.getBlockX() + radius + 1) >> 4;
+            int minZ = (bed.getBlockZ() - radius - 1) >> 4, maxZ = (bed.getBlockZ() + radius + 1) >> 4;
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    build.computeIfAbsent(key(x, z), k -> new ArrayList<>(1)).add(team);
+                }
+            }
+        }
+        for (Map.Entry<Long, List<ITeam>> entry : build.entrySet()) {
+            columns.put(entry.getKey(), entry.getValue().toArray(EMPTY));
+        }
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the team whose island contains the location.
+     * Same check as comparing the distance to the bed with the island radius.
+     *
+     * @return null if the location is not on an island.
+     */
+    public ITeam getBase(Location location) {
+        ITeam[] teams = columns.getOrDefault(key(location.getBlockX() >> 4, location.getBlockZ() >> 4), EMPTY);
+        for (ITeam team : teams) {
+            Location bed = team.getBed();
+            if (bed.getWorld() != location.getWorld()) continue;
+            if (distanceSquared(bed, location) <= islandRadiusSquared) {
+                return team;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the location is close enough to the team bed to hide its hologram.
+     */
+    public boolean isInBedRange(ITeam team, Location location) {
+        Location bed = team.getBed();
+        if (bed == null || bed.getWorld() != location.getWorld()) return false;
+        return distanceSquared(bed, location) < BED_HOLO_RADIUS * BED_HOLO_RADIUS;
+    }
+
+    /**
+     * Check if a player at the given block height should be killed by the void.
+     */
+    public boolean isVoid(int blockY) {
+        return blockY <= voidHeight;
+    }
+
+    private static double distanceSquared(Location a, Location b) {
+        double dx = a.getX() - b.getX(), dy = a.getY() - b.getY(), dz = a.getZ() - b.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
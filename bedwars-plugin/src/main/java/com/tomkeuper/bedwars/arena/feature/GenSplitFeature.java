@@ -1,26 +1,33 @@
 package com.tomkeuper.bedwars.arena.feature;
 
 import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.arena.IArena;
 import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import com.tomkeuper.bedwars.api.events.player.PlayerGeneratorCollectEvent;
 import com.tomkeuper.bedwars.arena.Arena;
+import com.tomkeuper.bedwars.shop.main.CurrencyLedger;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.List;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 public class GenSplitFeature implements Listener {
     private static GenSplitFeature instance;
 
+    private final TeamProximityIndex proximityIndex = new TeamProximityIndex();
+    // items split in the current tick, given in a single addItem per player
+    private final HashMap<Player, EnumMap<Material, Integer>> pending = new HashMap<>();
+
     public GenSplitFeature() {
         Bukkit.getPluginManager().registerEvents(this, BedWars.plugin);
+        Bukkit.getPluginManager().registerEvents(proximityIndex, BedWars.plugin);
     }
 
     public static void init() {
@@ -35,24 +42,41 @@ public class GenSplitFeature implements Listener {
     @EventHandler
     public void onIslandGenPickup(PlayerGeneratorCollectEvent e) {
         if (!e.isCancelled() && (e.getItemStack().getType() == Material.IRON_INGOT || e.getItemStack().getType() == Material.GOLD_INGOT)) {
-            Location pl = e.getPlayer().getLocation();
             Player p = e.getPlayer();
-            int splitRange = Arena.getArenaByPlayer(p).getConfig().getInt(ConfigPath.ARENA_GENERATOR_SPLIT_RANGE);
-            List<Entity> nearbyEntities = (List) pl.getWorld().getNearbyEntities(pl, splitRange, splitRange, 2.0);
-            for (Entity entity : pl.getWorld().getEntities()) {
-                if (nearbyEntities.contains(entity) && entity instanceof Player) {
-                    Player pickupPlayer = (Player) entity;
-                    if (pickupPlayer.getUniqueId() != p.getUniqueId()) {
-                        if (Arena.getArenaByPlayer(pickupPlayer) == null) BedWars.debug("pickupPlayer: " + pickupPlayer.getName() + " is not in an arena. Event triggered by: " + p.getName());
-                        ITeam team = Arena.getArenaByPlayer(pickupPlayer).getTeam(p);
-                        ITeam rt = Arena.getArenaByPlayer(pickupPlayer).getTeam(pickupPlayer);
-                        if (team == rt) {
-                            ItemStack item = new ItemStack(e.getItemStack().getType(), e.getAmount());
-                            if (!BedWars.getAPI().getAFKUtil().isPlayerAFK(pickupPlayer)) pickupPlayer.getInventory().addItem(item);
-                        }
-                    }
-                }
+            IArena arena = Arena.getArenaByPlayer(p);
+            if (arena == null) return;
+            ITeam team = arena.getTeam(p);
+            if (team == null) return;
+            int splitRange = arena.getConfig().getInt(ConfigPath.ARENA_GENERATOR_SPLIT_RANGE);
+            for (Player pickupPlayer : proximityIndex.getMembersInRange(team, p.getLocation(), splitRange, splitRange, 2.0, p)) {
+                split(pickupPlayer, e.getItemStack().getType(), e.getAmount());
+            }
+        }
+    }
+
+    /**
+     * Queue a split item. Items split in the same tick are merged and given together.
+     */
+    private void split(Player player, Material material, int amount) {
+        if (pending.isEmpty()) {
+            Bukkit.getScheduler().runTask(BedWars.plugin, this::flush);
+        }
+        pending.computeIfAbsent(player, k -> new EnumMap<>(Material.class)).merge(material, amount, Integer::sum);
+    }
+
+    private void flush() {
+        for (Map.Entry<Player, EnumMap<Material, Integer>> entry : pending.entrySet()) {
+            Player player = entry.getKey();
+            if (!player.isOnline()) continue;
+            if (BedWars.getAPI().getAFKUtil().isPlayerAFK(player)) continue;
+            ItemStack[] items = new ItemStack[entry.getValue().size()];
+            int i = 0;
+            for (Map.Entry<Material, Integer> item : entry.getValue().entrySet()) {
+                items[i++] = new ItemStack(item.getKey(), item.getValue());
             }
+            player.getInventory().addItem(items);
+            CurrencyLedger.invalidate(player);
         }
+        pending.clear();
     }
 }
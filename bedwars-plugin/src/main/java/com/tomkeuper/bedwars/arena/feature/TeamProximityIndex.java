@@ -0,0 +1,100 @@
+package com.tomkeuper.bedwars.arena.feature;
+
+import com.tomkeuper.bedwars.api.arena.team.ITeam;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Block positions of online players, updated only when a player moves to another block.
+ * Used to find the team members around a player without scanning the world entities.
+ */
+public class TeamProximityIndex implements Listener {
+
+    private final HashMap<UUID, BlockPosition> positions = new HashMap<>();
+
+    /**
+     * Get the team members of the given team within the given distance of a location.
+     *
+     * @param team     team to look in.
+     * @param center   center location.
+     * @param x        max distance on the x axis.
+     * @param y        max distance on the y axis.
+     * @param z        max distance on the z axis.
+     * @param excluded player to skip, can be null.
+     * @return members in range.
+     */
+    public List<Player> getMembersInRange(ITeam team, Location center, double x, double y, double z, Player excluded) {
+        List<Player> result = new ArrayList<>();
+        World world = center.getWorld();
+        int cx = center.getBlockX(), cy = center.getBlockY(), cz = center.getBlockZ();
+        for (Player member : team.getMembers()) {
+            if (member == excluded) continue;
+            BlockPosition position = positions.get(member.getUniqueId());
+            if (position == null) {
+                position = update(member, member.getLocation());
+            }
+            if (position.world != world) continue;
+            if (Math.abs(position.x - cx) > x) continue;
+            if (Math.abs(position.y - cy) > y) continue;
+            if (Math.abs(position.z - cz) > z) continue;
+            result.add(member);
+        }
+        return result;
+    }
+
+    private BlockPosition update(Player player, Location to) {
+        BlockPosition position = new BlockPosition(to.getWorld(), to.getBlockX(), to.getBlockY(), to.getBlockZ());
+        positions.put(player.getUniqueId(), position);
+        return position;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent e) {
+        Location from = e.getFrom(), to = e.getTo();
+        if (to == null) return;
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY() && from.getBlockZ() == to.getBlockZ()
+                && from.getWorld() == to.getWorld()) return;
+        update(e.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent e) {
+        if (e.getTo() == null) return;
+        update(e.getPlayer(), e.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        update(e.getPlayer(), e.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        positions.remove(e.getPlayer().getUniqueId());
+    }
+
+    private static final class BlockPosition {
+        private final World world;
+        private final int x, y, z;
+
+        private BlockPosition(World world, int x, int y, int z) {
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+}
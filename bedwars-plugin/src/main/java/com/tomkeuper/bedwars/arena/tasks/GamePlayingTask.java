@@ -57,7 +57,11 @@ public class GamePlayingTask implements Runnable, PlayingTask {
         this.dragon_spawn_countdown = config.getInt(ConfigPath.GENERAL_CONFIGURATION_DRAGON_SPAWN_COUNTDOWN);
         this.game_end_countdown = config.getInt(ConfigPath.GENERAL_CONFIGURATION_GAME_END_COUNTDOWN);
         this.task = Bukkit.getScheduler().runTaskTimer(BedWars.plugin, this, 0, 20L);
-        this.oreGenTask = new OreGenTask(arena);
+        if (GeneratorScheduler.getInstance() != null) {
+            GeneratorScheduler.getInstance().register(arena);
+        } else {
+            this.oreGenTask = new OreGenTask(arena);
+        }
     }
 
     public Arena getArena() {
@@ -267,6 +271,10 @@ public class GamePlayingTask implements Runnable, PlayingTask {
 
     public void cancel() {
         task.cancel();
-        oreGenTask.cancel();
+        if (oreGenTask != null) {
+            oreGenTask.cancel();
+        } else if (GeneratorScheduler.getInstance() != null) {
+            GeneratorScheduler.getInstance().unregister(arena);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.tomkeuper.bedwars.arena.tasks;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.arena.generator.IGenerator;
+import com.tomkeuper.bedwars.api.arena.team.ITeam;
+import com.tomkeuper.bedwars.api.configuration.ConfigPath;
+import com.tomkeuper.bedwars.arena.Arena;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Item;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
+import org.bukkit.event.player.PlayerPickupItemEvent;
+
+import java.util.*;
+
+/**
+ * Single generator task for all the arenas, used instead of one {@link OreGenTask} per arena
+ * when {@link ConfigPath#GENERAL_CONFIGURATION_PERFORMANCE_GLOBAL_GENERATOR_TASK} is enabled.
+ * <p>
+ * Generators still tick every 5 server ticks. Arenas are spread over a wheel of 5 slots and
+ * the task runs every tick processing one slot, so the load is split evenly between ticks.
+ * <p>
+ * Items dropped by generators are tracked from the drop itself and from merge, pickup and despawn events,
+ * so the generator spawn limit no longer needs to scan the nearby entities.
+ */
+public class GeneratorScheduler implements Runnable, Listener {
+
+    private static final int WHEEL_SIZE = 5;
+
+    private static GeneratorScheduler instance;
+
+    @SuppressWarnings("unchecked")
+    private final List<Arena>[] wheel = new List[WHEEL_SIZE];
+    private final HashMap<Arena, Integer> slotByArena = new HashMap<>();
+    private int tick = 0;
+
+    private final HashMap<UUID, IGenerator> dropOwner = new HashMap<>();
+    private final HashMap<IGenerator, List<Item>> drops = new HashMap<>();
+
+    private GeneratorScheduler() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        Bukkit.getPluginManager().registerEvents(this, BedWars.plugin);
+        Bukkit.getScheduler().runTaskTimer(BedWars.plugin, this, 0, 1L);
+    }
+
+    public static void init() {
+        if (BedWars.config.getBoolean(ConfigPath.GENERAL_CONFIGURATION_PERFORMANCE_GLOBAL_GENERATOR_TASK)) {
+            if (instance == null) {
+                instance = new GeneratorScheduler();
+            }
+        }
+    }
+
+    /**
+     * @return null if the per arena generator task is used.
+     */
+    public static GeneratorScheduler getInstance() {
+        return instance;
+    }
+
+    @Override
+    public void run() {
+        List<Arena> slot = wheel[tick];
+        tick = (tick + 1) % WHEEL_SIZE;
+        for (int i = 0; i < slot.size(); i++) {
+            Arena arena = slot.get(i);
+            for (ITeam t : arena.getTeams()) {
+                for (IGenerator o : t.getGenerators()) {
+                    o.spawn();
+                }
+            }
+            for (IGenerator o : arena.getOreGenerators()) {
+                o.spawn();
+            }
+        }
+    }
+
+    /**
+     * Start ticking the generators of an arena.
+     * The arena is added to the slot with the fewest generators.
+     */
+    public void register(Arena arena) {
+        if (slotByArena.containsKey(arena)) return;
+        int best = 0, bestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            int load = 0;
+            for (Arena a : wheel[i]) {
+                load += getGeneratorCount(a);
+            }
+            if (load < bestLoad) {
+                bestLoad = load;
+                best = i;
+            }
+        }
+        wheel[best].add(arena);
+        slotByArena.put(arena, best);
+    }
+
+    /**
+     * Stop ticking the generators of an arena and forget its dropped items.
+     */
+    public void unregister(Arena arena) {
+        Integer slot = slotByArena.remove(arena);
+        if (slot != null) {
+            wheel[slot].remove(arena);
+        }
+        drops.entrySet().removeIf(entry -> {
+            if (entry.getKey().getArena() != arena) return false;
+            for (Item item : entry.getValue()) {
+                dropOwner.remove(item.getUniqueId());
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Track an item dropped by a generator.
+     */
+    public void trackDrop(IGenerator generator, Item item) {
+        if (item == null) return;
+        dropOwner.put(item.getUniqueId(), generator);
+        drops.computeIfAbsent(generator, g -> new ArrayList<>()).add(item);
+    }
+
+    /**
+     * Get the amount of items dropped by a generator that were not picked up yet.
+     *
+     * @param limit entities removed without an event are only purged when the count reaches the limit.
+     */
+    public int getDropCount(IGenerator generator, int limit) {
+        List<Item> items = drops.get(generator);
+        if (items == null) return 0;
+        if (items.size() >= limit) {
+            items.removeIf(item -> {
+                if (item.isValid()) return false;
+                dropOwner.remove(item.getUniqueId());
+                return true;
+            });
+        }
+        return items.size();
+    }
+
+    /**
+     * @return the generator that dropped the item, null if it was not tracked.
+     */
+    private IGenerator untrack(Item item) {
+        IGenerator generator = dropOwner.remove(item.getUniqueId());
+        if (generator == null) return null;
+        List<Item> items = drops.get(generator);
+        if (items != null) {
+            items.remove(item);
+        }
+        return generator;
+    }
+
+    private static int getGeneratorCount(Arena arena) {
+        int count = arena.getOreGenerators().size();
+        for (ITeam t : arena.getTeams()) {
+            count += t.getGenerators().size();
+        }
+        return count;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMerge(ItemMergeEvent e) {
+        // the merged item is removed, an untracked target now holds the generator drop and is counted in its place
+        IGenerator generator = untrack(e.getEntity());
+        if (generator != null && !dropOwner.containsKey(e.getTarget().getUniqueId())) {
+            trackDrop(generator, e.getTarget());
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(PlayerPickupItemEvent e) {
+        if (e.getRemaining() > 0) return;
+        untrack(e.getItem());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHopperPickup(InventoryPickupItemEvent e) {
+        untrack(e.getItem());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDespawn(ItemDespawnEvent e) {
+        untrack(e.getEntity());
+    }
+}
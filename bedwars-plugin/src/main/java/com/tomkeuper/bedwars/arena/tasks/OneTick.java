@@ -20,16 +20,55 @@
 
 package com.tomkeuper.bedwars.arena.tasks;
 
-import com.tomkeuper.bedwars.api.arena.generator.IGenerator;
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import com.tomkeuper.bedwars.arena.OreGenerator;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
 
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Generators animation clock.
+ * Every rotating generator shows the frame of the current tick from a precomputed curve,
+ * generators with no player within view distance are skipped if enabled in config.
+ */
 public class OneTick implements Runnable {
+
+    // how often to check which generators have players around
+    private static final int NEARBY_REFRESH_TICKS = 20;
+
+    private final boolean onlyNearby = BedWars.config.getBoolean(ConfigPath.GENERAL_CONFIGURATION_PERFORMANCE_ROTATE_GEN_ONLY_NEARBY);
+    private final HashMap<World, List<Player>> playersByWorld = new HashMap<>();
+    private int clock = 0;
+
     @Override
     public void run() {
+        clock++;
+        boolean refresh = onlyNearby && clock % NEARBY_REFRESH_TICKS == 0;
 
         //OneTick generators
-        for (IGenerator h : OreGenerator.getRotation()) {
-            h.rotate();
+        for (OreGenerator o : OreGenerator.getRotation()) {
+            if (refresh) {
+                Location location = o.getLocation();
+                if (location == null || location.getWorld() == null) continue;
+                // players are fetched once per world for all the generators in it
+                o.setIdle(!hasViewer(location, playersByWorld.computeIfAbsent(location.getWorld(), World::getPlayers)));
+            }
+            if (o.isIdle()) continue;
+            o.animate(clock);
+        }
+        if (refresh) {
+            playersByWorld.clear();
+        }
+    }
+
+    private static boolean hasViewer(Location location, List<Player> players) {
+        for (Player p : players) {
+            if (OreGenerator.isInViewDistance(p.getLocation(), location)) return true;
         }
+        return false;
     }
 }
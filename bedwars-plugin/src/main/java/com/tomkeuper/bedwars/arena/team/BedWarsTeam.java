@@ -37,6 +37,7 @@ import com.tomkeuper.bedwars.arena.Arena;
 import com.tomkeuper.bedwars.arena.OreGenerator;
 import com.tomkeuper.bedwars.configuration.Sounds;
 import com.tomkeuper.bedwars.shop.ShopCache;
+import com.tomkeuper.bedwars.shop.main.CurrencyLedger;
 import com.tomkeuper.bedwars.support.paper.PaperSupport;
 import org.bukkit.*;
 import org.bukkit.enchantments.Enchantment;
@@ -135,6 +136,7 @@ public class BedWarsTeam implements ITeam {
 
             membersCache.removeIf(player -> player.getUniqueId().equals(p.getUniqueId()));
             membersCache.add(p);
+            arena.getPlayerIndex().setTeam(p, this);
 
             new BedHolo(p, getArena());
         }
@@ -194,6 +196,7 @@ public class BedWarsTeam implements ITeam {
      */
     public void sendDefaultInventory(Player p, boolean clean) {
         if (clean) p.getInventory().clear();
+        CurrencyLedger.invalidate(p);
         String path = config.getYml().get(ConfigPath.GENERAL_CONFIGURATION_DEFAULT_ITEMS + "." + arena.getGroup()) == null ?
                 ConfigPath.GENERAL_CONFIGURATION_DEFAULT_ITEMS + ".Default" : ConfigPath.GENERAL_CONFIGURATION_DEFAULT_ITEMS + "." + arena.getGroup();
         for (String s : config.getYml().getStringList(path)) {
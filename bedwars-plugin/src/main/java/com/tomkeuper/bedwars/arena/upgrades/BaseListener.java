@@ -20,7 +20,6 @@
 
 package com.tomkeuper.bedwars.arena.upgrades;
 
-import com.tomkeuper.bedwars.api.arena.GameState;
 import com.tomkeuper.bedwars.api.arena.IArena;
 import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.events.player.PlayerBaseEnterEvent;
@@ -29,12 +28,11 @@ import com.tomkeuper.bedwars.api.events.player.PlayerLeaveArenaEvent;
 import com.tomkeuper.bedwars.arena.Arena;
 import com.tomkeuper.bedwars.arena.team.BedWarsTeam;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.potion.PotionEffect;
 
@@ -45,15 +43,6 @@ public class BaseListener implements Listener {
 
     public static Map<Player, ITeam> isOnABase = new WeakHashMap<>();
 
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onPlayerMove(PlayerMoveEvent e) {
-        IArena a = Arena.getArenaByIdentifier(e.getPlayer().getWorld().getName());
-        if (a == null) return;
-        if (a.getStatus() != GameState.playing) return;
-        Player p = e.getPlayer();
-        checkEvents(p, a);
-    }
-
     @EventHandler
     public void onTeleport(PlayerTeleportEvent e) {
         Player p = e.getPlayer();
@@ -81,46 +70,63 @@ public class BaseListener implements Listener {
         if (player == null || arena == null || arena.isSpectator(player) || arena.isReSpawning(player)) {
             return;
         }
+        checkEvents(player, arena, getBase(arena, player.getLocation()));
+    }
 
-        boolean notOnBase = true;
-
-        for (ITeam team : arena.getTeams()) {
-            if (player.getLocation().distance(team.getBed()) <= arena.getIslandRadius()) {
-                notOnBase = false;
-
-                if (isOnABase.containsKey(player)) {
-                    ITeam previousTeam = isOnABase.get(player);
+    /**
+     * Check the Enter/ Leave events and call them.
+     * Player moves are handled by {@link com.tomkeuper.bedwars.listeners.MoveDispatcher}
+     * which already knows the base at the new location.
+     *
+     * @param base team whose island the player is on, null if not on a base.
+     */
+    public static void checkEvents(Player player, IArena arena, ITeam base) {
+        if (player == null || arena == null || arena.isSpectator(player) || arena.isReSpawning(player)) {
+            return;
+        }
 
-                    if (previousTeam != team) {
-                        // Player is switching bases, trigger leave event.
-                        Bukkit.getPluginManager().callEvent(new PlayerBaseLeaveEvent(player, previousTeam));
+        if (base != null) {
+            if (isOnABase.containsKey(player)) {
+                ITeam previousTeam = isOnABase.get(player);
 
-                        if (!Arena.magicMilk.containsKey(player.getUniqueId())) {
-                            // Player doesn't have magic milk, trigger enter event.
-                            Bukkit.getPluginManager().callEvent(new PlayerBaseEnterEvent(player, team));
-                        }
+                if (previousTeam != base) {
+                    // Player is switching bases, trigger leave event.
+                    Bukkit.getPluginManager().callEvent(new PlayerBaseLeaveEvent(player, previousTeam));
 
-                        // Update the player's current base.
-                        isOnABase.replace(player, team);
-                    }
-                } else {
-                    // Player was not on any island, trigger enter event
                     if (!Arena.magicMilk.containsKey(player.getUniqueId())) {
-                        Bukkit.getPluginManager().callEvent(new PlayerBaseEnterEvent(player, team));
-                        isOnABase.put(player, team);
+                        // Player doesn't have magic milk, trigger enter event.
+                        Bukkit.getPluginManager().callEvent(new PlayerBaseEnterEvent(player, base));
                     }
+
+                    // Update the player's current base.
+                    isOnABase.replace(player, base);
+                }
+            } else {
+                // Player was not on any island, trigger enter event
+                if (!Arena.magicMilk.containsKey(player.getUniqueId())) {
+                    Bukkit.getPluginManager().callEvent(new PlayerBaseEnterEvent(player, base));
+                    isOnABase.put(player, base);
                 }
             }
+        } else if (isOnABase.containsKey(player)) {
+            // Player has left all bases, trigger leave event.
+            ITeam previousTeam = isOnABase.get(player);
+            Bukkit.getPluginManager().callEvent(new PlayerBaseLeaveEvent(player, previousTeam));
+            isOnABase.remove(player);
         }
+    }
 
-        // Player has left all bases, trigger leave event if needed.
-        if (notOnBase) {
-            if (isOnABase.containsKey(player)) {
-                ITeam previousTeam = isOnABase.get(player);
-                Bukkit.getPluginManager().callEvent(new PlayerBaseLeaveEvent(player, previousTeam));
-                isOnABase.remove(player);
+    private static ITeam getBase(IArena arena, Location location) {
+        if (arena instanceof Arena) {
+            return ((Arena) arena).getZoneIndex().getBase(location);
+        }
+        for (ITeam team : arena.getTeams()) {
+            if (location.getWorld() != team.getBed().getWorld()) continue;
+            if (location.distance(team.getBed()) <= arena.getIslandRadius()) {
+                return team;
             }
         }
+        return null;
     }
 
 
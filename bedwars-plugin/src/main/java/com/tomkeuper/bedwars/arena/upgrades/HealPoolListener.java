@@ -7,8 +7,13 @@ import com.tomkeuper.bedwars.api.events.player.PlayerLeaveArenaEvent;
 import com.tomkeuper.bedwars.api.events.server.ArenaDisableEvent;
 import com.tomkeuper.bedwars.api.events.team.TeamEliminatedEvent;
 import com.tomkeuper.bedwars.api.events.upgrades.UpgradeBuyEvent;
+import org.bukkit.block.Block;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 
 public class HealPoolListener implements Listener {
     @EventHandler
@@ -45,4 +50,21 @@ public class HealPoolListener implements Listener {
         if (event.getArena().getPlayers().isEmpty())
             HealPoolTask.removeForArena(event.getArena());
     }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlace(BlockPlaceEvent e) {
+        HealPoolTask.onBlockChange(e.getBlock(), false);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBreak(BlockBreakEvent e) {
+        HealPoolTask.onBlockChange(e.getBlock(), true);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onExplode(EntityExplodeEvent e) {
+        for (Block b : e.blockList()) {
+            HealPoolTask.onBlockChange(b, true);
+        }
+    }
 }
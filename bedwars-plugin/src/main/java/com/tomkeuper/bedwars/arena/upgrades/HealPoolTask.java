@@ -6,22 +6,46 @@ import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 
+/**
+ * Heal pool particles of a team.
+ * The air cells around the team spawn are scanned once, a few layers per tick, and then kept
+ * up to date from block changes. Each cycle picks random cells from that set instead of reading
+ * every block of the island, so the cost depends on the amount of particles.
+ * Runs on the main thread.
+ */
 public class HealPoolTask extends BukkitRunnable {
 
+    // on average one particle for this amount of air cells per cycle
+    private static final int CELLS_PER_PARTICLE = 250;
+    private static final int LAYERS_PER_TICK = 4;
+    private static final long PERIOD = 30L;
+
     private ITeam bwt;
-    private int maxX, minX, maxY, minY, maxZ, minZ;
+    private int minX, minY, minZ, size;
     private IArena arena;
-    private Random r = new Random();
+    private World world;
+    private final Random r = new Random();
     private Location l;
 
+    // packed air cell indexes, the first cellCount are valid
+    private int[] cells;
+    private int cellCount = 0;
+    // position of a cell in the cells array, -1 if not air
+    private int[] positions;
+    private int scannedLayers = 0;
+    private int tick = 0;
+
     private static List<HealPoolTask> healPoolTasks = new ArrayList<>();
 
     public HealPoolTask(ITeam bwt){
@@ -33,14 +57,17 @@ public class HealPoolTask extends BukkitRunnable {
         }
         int radius = bwt.getArena().getConfig().getInt(ConfigPath.ARENA_ISLAND_RADIUS);
         Location teamspawn = bwt.getSpawn();
-        this.maxX = (teamspawn.getBlockX() + radius);
+        this.size = radius * 2 + 1;
         this.minX = (teamspawn.getBlockX() - radius);
-        this.maxY = (teamspawn.getBlockY() + radius);
         this.minY = (teamspawn.getBlockY() - radius);
-        this.maxZ = (teamspawn.getBlockZ() + radius);
         this.minZ = (teamspawn.getBlockZ() - radius);
         this.arena = bwt.getArena();
-        this.runTaskTimerAsynchronously(BedWars.plugin, 0, 30L);
+        this.world = arena.getWorld();
+        this.l = new Location(world, 0, 0, 0);
+        this.cells = new int[Math.min(size * size * size, 1024)];
+        this.positions = new int[size * size * size];
+        Arrays.fill(positions, -1);
+        this.runTaskTimer(BedWars.plugin, 0, 1L);
         healPoolTasks.add(this);
     }
 
@@ -49,31 +76,101 @@ public class HealPoolTask extends BukkitRunnable {
         //null checks
         if ((bwt == null) || (bwt.getSpawn() == null) || (arena == null)){
             healPoolTasks.remove(this);
+            cancel();
             return;
         }
 
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    l = new Location(arena.getWorld(), x + .5, y + .5, z +.5);
-                    if (l.getBlock().getType() != Material.AIR) continue;
-                    int chance = r.nextInt(250);
-                    if (chance == 0) {
-                        if (BedWars.config.getBoolean(ConfigPath.GENERAL_CONFIGURATION_HEAL_POOL_SEEN_TEAM_ONLY)) {
-                            for (Player p : bwt.getMembers()) {
-                                BedWars.nms.playVillagerEffect(p, l);
-                            }
-                        }
-                        else
-                        {
-                            for (Player p : arena.getPlayers()) {
-                                BedWars.nms.playVillagerEffect(p, l);
-                            }
-                        }
+        if (scannedLayers < size) {
+            scanLayers();
+            return;
+        }
+
+        if (++tick < PERIOD) return;
+        tick = 0;
+        if (cellCount == 0) return;
+
+        int particles = cellCount / CELLS_PER_PARTICLE;
+        if (r.nextInt(CELLS_PER_PARTICLE) < cellCount % CELLS_PER_PARTICLE) particles++;
+        if (particles == 0) return;
+
+        Iterable<Player> viewers = BedWars.config.getBoolean(ConfigPath.GENERAL_CONFIGURATION_HEAL_POOL_SEEN_TEAM_ONLY) ? bwt.getMembers() : arena.getPlayers();
+        for (int i = 0; i < particles; i++) {
+            int cell = cells[r.nextInt(cellCount)];
+            l.setX(minX + cell / (size * size) + .5);
+            l.setY(minY + (cell / size) % size + .5);
+            l.setZ(minZ + cell % size + .5);
+            for (Player p : viewers) {
+                BedWars.nms.playVillagerEffect(p, l);
+            }
+        }
+    }
+
+    private void scanLayers() {
+        int last = Math.min(size, scannedLayers + LAYERS_PER_TICK);
+        for (int dy = scannedLayers; dy < last; dy++) {
+            for (int dx = 0; dx < size; dx++) {
+                for (int dz = 0; dz < size; dz++) {
+                    if (world.getBlockAt(minX + dx, minY + dy, minZ + dz).getType() == Material.AIR) {
+                        addCell(index(dx, dy, dz));
                     }
                 }
             }
         }
+        scannedLayers = last;
+    }
+
+    private int index(int dx, int dy, int dz) {
+        return (dx * size + dy) * size + dz;
+    }
+
+    private void addCell(int index) {
+        if (positions[index] != -1) return;
+        if (cellCount == cells.length) {
+            cells = Arrays.copyOf(cells, Math.min(cells.length * 2, positions.length));
+        }
+        cells[cellCount] = index;
+        positions[index] = cellCount++;
+    }
+
+    private void removeCell(int index) {
+        int position = positions[index];
+        if (position == -1) return;
+        // move the last cell in the freed position
+        int lastCell = cells[--cellCount];
+        cells[position] = lastCell;
+        positions[lastCell] = position;
+        positions[index] = -1;
+    }
+
+    /**
+     * Update the air cells after a block change.
+     * Layers which were not scanned yet are ignored, they are read when scanned.
+     *
+     * @param air true if the block is air after the change.
+     */
+    private void update(Block block, boolean air) {
+        int dx = block.getX() - minX, dy = block.getY() - minY, dz = block.getZ() - minZ;
+        if (dx < 0 || dy < 0 || dz < 0 || dx >= size || dy >= size || dz >= size) return;
+        if (dy >= scannedLayers) return;
+        if (air) {
+            addCell(index(dx, dy, dz));
+        } else {
+            removeCell(index(dx, dy, dz));
+        }
+    }
+
+    /**
+     * Update the heal pools of the block world after a block change.
+     *
+     * @param air true if the block is air after the change.
+     */
+    public static void onBlockChange(Block block, boolean air) {
+        if (healPoolTasks.isEmpty()) return;
+        for (HealPoolTask hpt : healPoolTasks) {
+            if (hpt.world == block.getWorld()) {
+                hpt.update(block, air);
+            }
+        }
     }
 
     public static boolean exists(IArena arena, ITeam bwt){
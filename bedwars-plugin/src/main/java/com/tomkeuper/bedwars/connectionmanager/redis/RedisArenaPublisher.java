@@ -0,0 +1,208 @@
+package com.tomkeuper.bedwars.connectionmanager.redis;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.arena.IArena;
+import com.tomkeuper.bedwars.api.configuration.ConfigPath;
+import com.tomkeuper.bedwars.arena.ArenaRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Publishes arena information to redis from a single thread.
+ * Changed arenas are collected for a short window and written together in one pipeline,
+ * so a burst of joins results in a single write per arena.
+ * <p>
+ * Every arena key has a TTL and is refreshed periodically, so the entries of a crashed server expire on their own.
+ * The written keys are tracked in a set, which is used to remove them without scanning the key space.
+ * <p>
+ * Failed writes are retried with an exponential backoff. An outage is logged once when it starts and once when it ends.
+ */
+public class RedisArenaPublisher {
+
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30000;
+
+    private final JedisPool pool;
+    private final String serverId;
+    // must not start with bwa- since those keys are expected to be arena hashes
+    private final String indexKey;
+    private final long delayMillis;
+    private final int ttlSeconds;
+
+    private final ConcurrentHashMap<String, IArena> dirty = new ConcurrentHashMap<>();
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final BukkitTask refreshTask;
+    private volatile boolean shutdown = false;
+    // failed flushes in a row, only written from the executor thread
+    private volatile int failures = 0;
+
+    public RedisArenaPublisher(JedisPool pool) {
+        this.pool = pool;
+        this.serverId = BedWars.config.getString(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_SERVER_ID);
+        this.indexKey = "bw-arena-index-" + serverId;
+        this.delayMillis = Math.max(0, BedWars.config.getInt(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_PUBLISH_DELAY));
+        this.ttlSeconds = Math.max(15, BedWars.config.getInt(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_ARENA_TTL));
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "BedWars2023-RedisPublisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // refresh the TTL of all arenas well before they expire
+        long refreshTicks = ttlSeconds / 3 * 20L;
+        this.refreshTask = Bukkit.getScheduler().runTaskTimer(BedWars.plugin, () -> {
+            for (IArena a : ArenaRegistry.getInstance().getArenas()) {
+                markDirty(a);
+            }
+        }, refreshTicks, refreshTicks);
+    }
+
+    /**
+     * Publish the arena information with the next flush.
+     */
+    public void markDirty(IArena a) {
+        if (a == null || a.getWorldName() == null || shutdown) return;
+        removed.remove(a.getWorldName());
+        dirty.put(a.getWorldName(), a);
+        scheduleFlush();
+    }
+
+    /**
+     * Remove the arena information with the next flush.
+     */
+    public void markRemoved(IArena a) {
+        if (a == null || a.getWorldName() == null || shutdown) return;
+        dirty.remove(a.getWorldName());
+        removed.add(a.getWorldName());
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (scheduled.compareAndSet(false, true)) {
+            int failures = this.failures;
+            long delay = failures == 0 ? delayMillis : Math.min(MAX_RETRY_DELAY_MILLIS, Math.max(delayMillis, RETRY_DELAY_MILLIS) << Math.min(failures - 1, 5));
+            executor.schedule(() -> {
+                scheduled.set(false);
+                flush();
+                // retry failed writes and pick up arenas changed meanwhile
+                if (!(dirty.isEmpty() && removed.isEmpty()) && !shutdown) {
+                    scheduleFlush();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        List<IArena> arenas = new ArrayList<>(dirty.size());
+        for (String world : dirty.keySet()) {
+            IArena a = dirty.remove(world);
+            if (a != null) {
+                arenas.add(a);
+            }
+        }
+        List<String> deleted = new ArrayList<>(removed.size());
+        for (String world : removed) {
+            if (removed.remove(world)) {
+                deleted.add(world);
+            }
+        }
+        if (arenas.isEmpty() && deleted.isEmpty()) return;
+
+        try (Jedis jedis = pool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (String world : deleted) {
+                String key = getKey(world);
+                pipeline.del(key);
+                pipeline.srem(indexKey, key);
+            }
+            for (IArena a : arenas) {
+                String key = getKey(a.getWorldName());
+                pipeline.hset(key, getArenaInformation(a));
+                pipeline.expire(key, ttlSeconds);
+                pipeline.sadd(indexKey, key);
+            }
+            pipeline.expire(indexKey, ttlSeconds);
+            pipeline.sync();
+            BedWars.debug("Published " + arenas.size() + " arenas and removed " + deleted.size() + " from redis.");
+            if (failures != 0) {
+                BedWars.plugin.getLogger().info("Arena information is stored again after " + failures + " failed attempts.");
+                failures = 0;
+            }
+        } catch (Exception e) {
+            for (IArena a : arenas) {
+                dirty.putIfAbsent(a.getWorldName(), a);
+            }
+            removed.addAll(deleted);
+            if (failures++ == 0) {
+                BedWars.plugin.getLogger().log(Level.SEVERE, "An error occurred while trying to store arena information! Retrying until it succeeds.", e);
+            } else {
+                BedWars.debug("Could not store arena information, attempt " + failures + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private Map<String, String> getArenaInformation(IArena a) {
+        Map<String, String> arenaInfoMap = new HashMap<>();
+        arenaInfoMap.put("server_name", serverId);
+        arenaInfoMap.put("arena_name", a.getArenaName());
+        arenaInfoMap.put("arena_identifier", a.getWorldName());
+        arenaInfoMap.put("arena_status", a.getStatus().toString().toUpperCase());
+        arenaInfoMap.put("arena_current_players", String.valueOf(a.getPlayers().size()));
+        arenaInfoMap.put("arena_max_players", String.valueOf(a.getMaxPlayers()));
+        arenaInfoMap.put("arena_max_in_team", String.valueOf(a.getMaxInTeam()));
+        arenaInfoMap.put("arena_group", a.getGroup().toUpperCase());
+        arenaInfoMap.put("allow_spectate", String.valueOf(a.isAllowSpectate()));
+        return arenaInfoMap;
+    }
+
+    String getKey(String world) {
+        return "bwa-" + serverId + "-" + world;
+    }
+
+    /**
+     * Delete every arena key published by this server.
+     */
+    void deleteAll(Jedis jedis) {
+        Set<String> keys = jedis.smembers(indexKey);
+        Pipeline pipeline = jedis.pipelined();
+        for (String key : keys) {
+            pipeline.del(key);
+            BedWars.debug("Deleted arena redis with key: " + key);
+        }
+        pipeline.del(indexKey);
+        pipeline.sync();
+    }
+
+    /**
+     * Stop publishing. Pending changes are dropped since the entries are deleted on shutdown.
+     */
+    public void shutdown() {
+        shutdown = true;
+        refreshTask.cancel();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dirty.clear();
+        removed.clear();
+    }
+}
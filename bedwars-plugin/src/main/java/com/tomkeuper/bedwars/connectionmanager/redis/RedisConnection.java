@@ -10,9 +10,6 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -22,6 +19,7 @@ public class RedisConnection implements IRedisClient {
     private final JedisPool dataPool;
     private final JedisPool subscriptionPool;
     private final RedisPubSubListener redisPubSubListener;
+    private final RedisArenaPublisher arenaPublisher;
 
     private final ExecutorService listenerPool = Executors.newCachedThreadPool();
 
@@ -37,6 +35,7 @@ public class RedisConnection implements IRedisClient {
                 BedWars.config.getString(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_PASSWORD));
 
         this.channel = BedWars.config.getYml().getString(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_REDIS_CHANNEL);
+        this.arenaPublisher = new RedisArenaPublisher(dataPool);
 
         // Clean up any instances that might still be in the database.
         cleanupRedisEntries();
@@ -70,62 +69,25 @@ public class RedisConnection implements IRedisClient {
 
     public void cleanupRedisEntries(){
         try (Jedis jedis = dataPool.getResource()) {
-            // Get all keys starting with the server identifier.
-            Set<String> keys = jedis.keys("bwa-" + BedWars.config.getString(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_SERVER_ID)+"*");
-
-            for (String key : keys) {
-                jedis.del(key);
-                BedWars.debug("Deleted arena redis with key: " + key);
-            }
+            arenaPublisher.deleteAll(jedis);
         } catch (Exception ignored) {
         }
     }
 
     public void cleanupRedisEntry(IArena a){
-        try (Jedis jedis = dataPool.getResource()) {
-            String key = "bwa-" + BedWars.config.getString(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_SERVER_ID) + "-" + a.getWorldName();
-            jedis.del(key);
-            BedWars.debug("Deleted arena redis with key: " + key);
-        } catch (Exception ignored) {
-        }
+        arenaPublisher.markRemoved(a);
     }
 
     /**
-     * Stores information about the arena in the data store.
+     * Queue the arena information to be stored in the data store.
      * The information includes various details such as the server name, arena name, identifier, status, current players,
      * maximum players, maximum players in a team, group, and whether spectating is allowed.
+     * Changes are coalesced and written asynchronously, see {@link RedisArenaPublisher}.
      *
      * @param a The IArena object for which the information needs to be stored.
-     * @return True if the arena information is successfully stored, otherwise false.
      */
-    @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    public boolean storeArenaInformation(IArena a) {
-        if (a == null) return false;
-        if (a.getWorldName() == null) return false;
-
-            // Create a map for the arena information.
-        Map<String, String> arenaInfoMap = new HashMap<>();
-        arenaInfoMap.put("server_name", BedWars.config.getString(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_SERVER_ID));
-        arenaInfoMap.put("arena_name", a.getArenaName());
-        arenaInfoMap.put("arena_identifier", a.getWorldName());
-        arenaInfoMap.put("arena_status", a.getStatus().toString().toUpperCase());
-        arenaInfoMap.put("arena_current_players", String.valueOf(a.getPlayers().size()));
-        arenaInfoMap.put("arena_max_players", String.valueOf(a.getMaxPlayers()));
-        arenaInfoMap.put("arena_max_in_team", String.valueOf(a.getMaxInTeam()));
-        arenaInfoMap.put("arena_group", a.getGroup().toUpperCase());
-        arenaInfoMap.put("allow_spectate", String.valueOf(a.isAllowSpectate()));
-
-        try (Jedis jedis = dataPool.getResource()) {
-            // Store the map as a hash table in Redis using a separate connection
-            String key = "bwa-" + BedWars.config.getString(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_SERVER_ID) + "-" + a.getWorldName();
-            jedis.hmset(key, arenaInfoMap);
-
-            BedWars.debug("Storing arena info for: " + a.getArenaName() + " - " + arenaInfoMap);
-            return true;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return false;
-        }
+    public void storeArenaInformation(IArena a) {
+        arenaPublisher.markDirty(a);
     }
 
     /**
@@ -167,6 +129,7 @@ public class RedisConnection implements IRedisClient {
 
     public void close(){
         BedWars.debug("Closing redis connections...");
+        arenaPublisher.shutdown();
         cleanupRedisEntries();
         redisPubSubListener.unsubscribe();
         dataPool.close();
@@ -22,6 +22,7 @@ package com.tomkeuper.bedwars.database;
 
 import com.tomkeuper.bedwars.BedWars;
 import com.tomkeuper.bedwars.api.database.IDatabase;
+import com.tomkeuper.bedwars.api.database.PlayerProfile;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.shop.IQuickBuyElement;
 import com.tomkeuper.bedwars.api.stats.IPlayerStats;
@@ -35,7 +36,20 @@ public class H2 implements IDatabase {
 
     private final String url;
 
+    // shared by every caller, methods using it are synchronized so the stats transaction does not mix with other statements
     private Connection connection;
+    private final StatsUpsert statsUpsert = new StatsUpsert(
+            // FIRST_PLAY is only written when the row is created
+            "MERGE INTO GLOBAL_STATS T USING (VALUES (CAST(? AS VARCHAR(200)), CAST(? AS VARCHAR(36)), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), " +
+                    "CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER))) " +
+                    "S (NAME, UUID, FIRST_PLAY, LAST_PLAY, WINS, KILLS, FINAL_KILLS, LOSES, DEATHS, FINAL_DEATHS, BEDS_DESTROYED, GAMES_PLAYED) ON T.UUID = S.UUID " +
+                    "WHEN MATCHED THEN UPDATE SET NAME = S.NAME, LAST_PLAY = S.LAST_PLAY, WINS = S.WINS, KILLS = S.KILLS, FINAL_KILLS = S.FINAL_KILLS, LOSES = S.LOSES, " +
+                    "DEATHS = S.DEATHS, FINAL_DEATHS = S.FINAL_DEATHS, BEDS_DESTROYED = S.BEDS_DESTROYED, GAMES_PLAYED = S.GAMES_PLAYED " +
+                    "WHEN NOT MATCHED THEN INSERT (NAME, UUID, FIRST_PLAY, LAST_PLAY, WINS, KILLS, FINAL_KILLS, LOSES, DEATHS, FINAL_DEATHS, BEDS_DESTROYED, GAMES_PLAYED) " +
+                    "VALUES (S.NAME, S.UUID, S.FIRST_PLAY, S.LAST_PLAY, S.WINS, S.KILLS, S.FINAL_KILLS, S.LOSES, S.DEATHS, S.FINAL_DEATHS, S.BEDS_DESTROYED, S.GAMES_PLAYED);",
+            "UPDATE GLOBAL_STATS SET last_play=?, wins=?, kills=?, final_kills=?, loses=?, deaths=?, final_deaths=?, beds_destroyed=?, games_played=?, NAME=? WHERE UUID = ?;",
+            "INSERT INTO GLOBAL_STATS (Name, UUID, first_play, last_play, wins, kills, final_kills, loses, deaths, final_deaths, beds_destroyed, games_played) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);"
+    );
 
     public H2() {
         File folder = new File(BedWars.plugin.getDataFolder() + "/Cache");
@@ -57,7 +71,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public void init() {
+    public synchronized void init() {
         String sql;
         try {
             checkConnection();
@@ -86,13 +100,27 @@ public class H2 implements IDatabase {
                         "iso VARCHAR(200));";
                 st.executeUpdate(sql);
             }
+
+            new SchemaMigrator("H2")
+                    .add("unique uuid keys", c -> {
+                        for (String table : new String[]{"GLOBAL_STATS", "PLAYER_LEVELS", "PLAYER_LANGUAGE"}) {
+                            SchemaMigrator.execute(c,
+                                    "DELETE FROM " + table + " WHERE ID NOT IN (SELECT MAX(ID) FROM " + table + " GROUP BY UUID);",
+                                    "ALTER TABLE " + table + " ALTER COLUMN UUID SET DATA TYPE VARCHAR(36);",
+                                    "CREATE UNIQUE INDEX IF NOT EXISTS " + table + "_UUID ON " + table + " (UUID);");
+                        }
+                    })
+                    .migrate(connection);
+
+            // merge matches rows by the key column and does not need a unique index
+            statsUpsert.setUpsertSupported(true);
         }catch (SQLException e) {
             e.printStackTrace();
         }
     }
 
     @Override
-    public boolean hasStats(UUID uuid) {
+    public synchronized boolean hasStats(UUID uuid) {
         String sql = "SELECT UUID FROM GLOBAL_STATS WHERE UUID = ?;";
         try {
             checkConnection();
@@ -111,51 +139,29 @@ public class H2 implements IDatabase {
 
     @Override
     public void saveStats(IPlayerStats stats) {
-        String sql;
         try {
-            checkConnection();
-
-            if (hasStats(stats.getUuid())) {
-                sql = "UPDATE GLOBAL_STATS SET last_play=?, wins=?, kills=?, final_kills=?, loses=?, deaths=?, final_deaths=?, beds_destroyed=?, games_played=?, NAME=? WHERE UUID = ?;";
-                try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                    statement.setTimestamp(1, Timestamp.from(stats.getLastPlay()));
-                    statement.setInt(2, stats.getWins());
-                    statement.setInt(3, stats.getKills());
-                    statement.setInt(4, stats.getFinalKills());
-                    statement.setInt(5, stats.getLosses());
-                    statement.setInt(6, stats.getDeaths());
-                    statement.setInt(7, stats.getFinalDeaths());
-                    statement.setInt(8, stats.getBedsDestroyed());
-                    statement.setInt(9, stats.getGamesPlayed());
-                    statement.setString(10, stats.getName());
-                    statement.setString(11, stats.getUuid().toString());
-                    statement.executeUpdate();
-                }
-            } else {
-                sql = "INSERT INTO GLOBAL_STATS (Name, UUID, first_play, last_play, wins, kills, final_kills, loses, deaths, final_deaths, beds_destroyed, games_played) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);";
-                try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                    statement.setString(1, stats.getName());
-                    statement.setString(2, stats.getUuid().toString());
-                    statement.setTimestamp(3, Timestamp.from(stats.getFirstPlay()));
-                    statement.setTimestamp(4, Timestamp.from(stats.getLastPlay()));
-                    statement.setInt(5, stats.getWins());
-                    statement.setInt(6, stats.getKills());
-                    statement.setInt(7, stats.getFinalKills());
-                    statement.setInt(8, stats.getLosses());
-                    statement.setInt(9, stats.getDeaths());
-                    statement.setInt(10, stats.getFinalDeaths());
-                    statement.setInt(11, stats.getBedsDestroyed());
-                    statement.setInt(12, stats.getGamesPlayed());
-                    statement.executeUpdate();
-                }
-            }
+            saveBatch(Collections.singletonList(stats));
         } catch (SQLException e) {
             e.printStackTrace();
         }
     }
 
     @Override
-    public IPlayerStats fetchStats(UUID uuid) {
+    public void saveStats(Collection<IPlayerStats> stats) {
+        try {
+            saveBatch(stats);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not save the stats of " + stats.size() + " players.", e);
+        }
+    }
+
+    private synchronized void saveBatch(Collection<IPlayerStats> stats) throws SQLException {
+        checkConnection();
+        statsUpsert.save(connection, stats);
+    }
+
+    @Override
+    public synchronized IPlayerStats fetchStats(UUID uuid) {
         IPlayerStats stats = new PlayerStats(uuid);
         String sql = "SELECT * FROM GLOBAL_STATS WHERE UUID = ?;";
         try {
@@ -185,7 +191,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public void saveCustomStat(String columnName, UUID player, Object value, String dataType) {
+    public synchronized void saveCustomStat(String columnName, UUID player, Object value, String dataType) {
         String sql;
         checkCustomColumnExists(columnName, dataType);
         try {
@@ -211,7 +217,7 @@ public class H2 implements IDatabase {
         }
     }
 
-    public void checkCustomColumnExists(String columnName, String dataType){
+    public synchronized void checkCustomColumnExists(String columnName, String dataType){
         String sql = "SHOW COLUMNS FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ?;";
         try {
             checkConnection();
@@ -233,7 +239,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public Object getCustomStat(String columnName, UUID player) {
+    public synchronized Object getCustomStat(String columnName, UUID player) {
         String sql = "SELECT " + columnName + " FROM GLOBAL_STATS WHERE UUID = ?;";
         try {
             checkConnection();
@@ -253,7 +259,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public String getQuickBuySlots(UUID p, int slot) {
+    public synchronized String getQuickBuySlots(UUID p, int slot) {
         String result = "";
         try {
             checkConnection();
@@ -273,7 +279,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public boolean hasQuickBuy(UUID uuid) {
+    public synchronized boolean hasQuickBuy(UUID uuid) {
         try {
             checkConnection();
 
@@ -292,7 +298,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public int getColumn(UUID player, String column) {
+    public synchronized int getColumn(UUID player, String column) {
         String sql = "SELECT ? FROM GLOBAL_STATS WHERE UUID = ?;";
         try {
             checkConnection();
@@ -315,7 +321,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public Object[] getLevelData(UUID player) {
+    public synchronized Object[] getLevelData(UUID player) {
         Object[] r = new Object[]{1, 0, "", 0};
         try {
             checkConnection();
@@ -338,7 +344,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public void setLevelData(UUID player, int level, int xp, String displayName, int nextCost) {
+    public synchronized void setLevelData(UUID player, int level, int xp, String displayName, int nextCost) {
         try {
             checkConnection();
 
@@ -374,7 +380,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public void setLanguage(UUID player, String iso) {
+    public synchronized void setLanguage(UUID player, String iso) {
         try {
             checkConnection();
 
@@ -399,7 +405,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public String getLanguage(UUID player) {
+    public synchronized String getLanguage(UUID player) {
         String iso = Language.getDefaultLanguage().getIso();
         try {
             checkConnection();
@@ -419,7 +425,7 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public void pushQuickBuyChanges(HashMap<Integer, String> updateSlots, UUID uuid, List<IQuickBuyElement> elements) {
+    public synchronized void pushQuickBuyChanges(HashMap<Integer, String> updateSlots, UUID uuid, List<IQuickBuyElement> elements) {
         if (updateSlots.isEmpty()) return;
         boolean hasQuick;
         if (!(hasQuick = hasQuickBuy(uuid))) {
@@ -471,31 +477,47 @@ public class H2 implements IDatabase {
     }
 
     @Override
-    public HashMap<Integer, String> getQuickBuySlots(UUID uuid, int[] slot) {
-        HashMap<Integer, String> results = new HashMap<>();
+    public synchronized HashMap<Integer, String> getQuickBuySlots(UUID uuid, int[] slot) {
         if (slot.length == 0) {
-            return results;
+            return new HashMap<>();
         }
+        HashMap<Integer, String> results = loadQuickBuySlots(uuid, slot);
+        return results == null ? new HashMap<>() : results;
+    }
+
+    @Override
+    public synchronized PlayerProfile loadProfile(UUID uuid, int[] quickBuySlots) {
+        // quick buy existence and slots are read with a single query
+        return new PlayerProfile(uuid, fetchStats(uuid), getLevelData(uuid), getLanguage(uuid), loadQuickBuySlots(uuid, quickBuySlots));
+    }
+
+    /**
+     * @return null if the player has no quick buy saved.
+     */
+    private HashMap<Integer, String> loadQuickBuySlots(UUID uuid, int[] slot) {
         try {
             checkConnection();
 
             try (PreparedStatement ps = connection.prepareStatement("SELECT * FROM QUICK_BUY WHERE UUID = ?;")) {
                 ps.setString(1, uuid.toString());
                 try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        for (int i : slot) {
-                            String id = rs.getString("SLOT_" + i);
-                            if (null != id && !id.isEmpty()) {
-                                results.put(i, id);
-                            }
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    HashMap<Integer, String> results = new HashMap<>();
+                    for (int i : slot) {
+                        String id = rs.getString("SLOT_" + i);
+                        if (null != id && !id.isEmpty()) {
+                            results.put(i, id);
                         }
                     }
+                    return results;
                 }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return results;
+        return null;
     }
 
     private void checkConnection() throws SQLException {
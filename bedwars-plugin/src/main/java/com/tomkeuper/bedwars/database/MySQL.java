@@ -22,6 +22,7 @@ package com.tomkeuper.bedwars.database;
 
 import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import com.tomkeuper.bedwars.api.database.IDatabase;
+import com.tomkeuper.bedwars.api.database.PlayerProfile;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.shop.IQuickBuyElement;
 import com.tomkeuper.bedwars.api.stats.IPlayerStats;
@@ -30,6 +31,8 @@ import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.sql.*;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +54,14 @@ public class MySQL implements IDatabase {
     private final boolean certificateVerification;
     private final int poolSize;
     private final int maxLifetime;
+    private final StatsUpsert statsUpsert = new StatsUpsert(
+            "INSERT INTO global_stats (name, uuid, first_play, last_play, wins, kills, final_kills, looses, deaths, final_deaths, beds_destroyed, games_played) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE name=VALUES(name), last_play=VALUES(last_play), wins=VALUES(wins), " +
+                    "kills=VALUES(kills), final_kills=VALUES(final_kills), looses=VALUES(looses), deaths=VALUES(deaths), final_deaths=VALUES(final_deaths), " +
+                    "beds_destroyed=VALUES(beds_destroyed), games_played=VALUES(games_played);",
+            "UPDATE global_stats SET last_play=?, wins=?, kills=?, final_kills=?, looses=?, deaths=?, final_deaths=?, beds_destroyed=?, games_played=?, name=? WHERE uuid = ?;",
+            "INSERT INTO global_stats (name, uuid, first_play, last_play, wins, kills, final_kills, looses, deaths, final_deaths, beds_destroyed, games_played) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);"
+    );
 
     /**
      * Create new MySQL connection.
@@ -162,6 +173,28 @@ public class MySQL implements IDatabase {
             try (Statement statement = connection.createStatement()) {
                 statement.executeUpdate(sql);
             }
+
+            // servers sharing the database start at the same time, only one of them migrates
+            new SchemaMigrator("MySQL")
+                    .lock("SELECT GET_LOCK('bedwars_schema', 60);", "SELECT RELEASE_LOCK('bedwars_schema');")
+                    .add("unique uuid keys", c -> {
+                        for (String table : new String[]{"global_stats", "player_levels", "player_language"}) {
+                            if (hasUniqueUuidIndex(c, table)) continue;
+                            // index first so removing the duplicates does not scan the table for each row,
+                            // keep the latest row of each player and then make the index unique
+                            // DDL is not transactional, a failed run can leave the plain index behind
+                            SchemaMigrator.execute(c, hasIndex(c, table, table + "_uuid")
+                                    ? "ALTER TABLE " + table + " MODIFY uuid CHAR(36);"
+                                    : "ALTER TABLE " + table + " MODIFY uuid CHAR(36), ADD INDEX " + table + "_uuid (uuid);");
+                            SchemaMigrator.execute(c,
+                                    "DELETE t1 FROM " + table + " t1 JOIN " + table + " t2 ON t1.uuid = t2.uuid AND t1.id < t2.id;",
+                                    "ALTER TABLE " + table + " DROP INDEX " + table + "_uuid, ADD UNIQUE INDEX " + table + "_uuid (uuid);");
+                        }
+                    })
+                    .migrate(connection);
+
+            // upserts need a unique key on uuid
+            statsUpsert.setUpsertSupported(hasUniqueUuidIndex(connection, "global_stats"));
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -169,77 +202,83 @@ public class MySQL implements IDatabase {
 
     @Override
     public void saveStats(IPlayerStats stats) {
-        String sql;
         try (Connection connection = dataSource.getConnection()) {
-            if (hasStats(stats.getUuid())) {
-                sql = "UPDATE global_stats SET first_play=?, last_play=?, wins=?, kills=?, final_kills=?, looses=?, deaths=?, final_deaths=?, beds_destroyed=?, games_played=?, name=? WHERE uuid = ?;";
-                try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                    statement.setTimestamp(1, stats.getFirstPlay() != null ? Timestamp.from(stats.getFirstPlay()) : null);
-                    statement.setTimestamp(2, stats.getLastPlay() != null ? Timestamp.from(stats.getLastPlay()) : null);
-                    statement.setInt(3, stats.getWins());
-                    statement.setInt(4, stats.getKills());
-                    statement.setInt(5, stats.getFinalKills());
-                    statement.setInt(6, stats.getLosses());
-                    statement.setInt(7, stats.getDeaths());
-                    statement.setInt(8, stats.getFinalDeaths());
-                    statement.setInt(9, stats.getBedsDestroyed());
-                    statement.setInt(10, stats.getGamesPlayed());
-                    statement.setString(11, stats.getName());
-                    statement.setString(12, stats.getUuid().toString());
-                    statement.executeUpdate();
-                }
-            } else {
-                sql = "INSERT INTO global_stats (name, uuid, first_play, last_play, wins, kills, final_kills, looses, deaths, final_deaths, beds_destroyed, games_played) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);";
-                try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                    statement.setString(1, stats.getName());
-                    statement.setString(2, stats.getUuid().toString());
-                    statement.setTimestamp(3, Timestamp.from(stats.getFirstPlay()));
-                    statement.setTimestamp(4, Timestamp.from(stats.getLastPlay()));
-                    statement.setInt(5, stats.getWins());
-                    statement.setInt(6, stats.getKills());
-                    statement.setInt(7, stats.getFinalKills());
-                    statement.setInt(8, stats.getLosses());
-                    statement.setInt(9, stats.getDeaths());
-                    statement.setInt(10, stats.getFinalDeaths());
-                    statement.setInt(11, stats.getBedsDestroyed());
-                    statement.setInt(12, stats.getGamesPlayed());
-                    statement.executeUpdate();
-                }
-            }
+            statsUpsert.save(connection, Collections.singletonList(stats));
         } catch (SQLException e) {
             e.printStackTrace();
         }
     }
 
+    @Override
+    public void saveStats(Collection<IPlayerStats> stats) {
+        try (Connection connection = dataSource.getConnection()) {
+            statsUpsert.save(connection, stats);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not save the stats of " + stats.size() + " players.", e);
+        }
+    }
+
+    private static boolean hasIndex(Connection connection, String table, String index) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet result = statement.executeQuery("SHOW INDEX FROM " + table + " WHERE Key_name = '" + index + "';")) {
+                return result.next();
+            }
+        }
+    }
+
+    private static boolean hasUniqueUuidIndex(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet result = statement.executeQuery("SHOW INDEX FROM " + table + " WHERE Column_name = 'uuid' AND Non_unique = 0;")) {
+                return result.next();
+            }
+        }
+    }
+
     @Override
     public IPlayerStats fetchStats(UUID uuid) {
+        try (Connection connection = dataSource.getConnection()) {
+            return fetchStats(connection, uuid);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return new PlayerStats(uuid);
+    }
+
+    private IPlayerStats fetchStats(Connection connection, UUID uuid) throws SQLException {
         IPlayerStats stats = new PlayerStats(uuid);
         String sql = "SELECT first_play, last_play, wins, kills, final_kills, looses, deaths, final_deaths," +
                 "beds_destroyed, games_played FROM global_stats WHERE uuid = ?;";
-        try (Connection connection = dataSource.getConnection()) {
-            try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                statement.setString(1, uuid.toString());
-                try (ResultSet result = statement.executeQuery()) {
-                    if (result.next()) {
-                        Timestamp firstPlay = result.getTimestamp(1);
-                        Timestamp lastPlay = result.getTimestamp(2);
-                        stats.setFirstPlay(firstPlay != null ? firstPlay.toInstant() : null);
-                        stats.setLastPlay(lastPlay != null ? lastPlay.toInstant() : null);
-                        stats.setWins(result.getInt(3));
-                        stats.setKills(result.getInt(4));
-                        stats.setFinalKills(result.getInt(5));
-                        stats.setLosses(result.getInt(6));
-                        stats.setDeaths(result.getInt(7));
-                        stats.setFinalDeaths(result.getInt(8));
-                        stats.setBedsDestroyed(result.getInt(9));
-                        stats.setGamesPlayed(result.getInt(10));
-                    }
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, uuid.toString());
+            try (ResultSet result = statement.executeQuery()) {
+                if (result.next()) {
+                    Timestamp firstPlay = result.getTimestamp(1);
+                    Timestamp lastPlay = result.getTimestamp(2);
+                    stats.setFirstPlay(firstPlay != null ? firstPlay.toInstant() : null);
+                    stats.setLastPlay(lastPlay != null ? lastPlay.toInstant() : null);
+                    stats.setWins(result.getInt(3));
+                    stats.setKills(result.getInt(4));
+                    stats.setFinalKills(result.getInt(5));
+                    stats.setLosses(result.getInt(6));
+                    stats.setDeaths(result.getInt(7));
+                    stats.setFinalDeaths(result.getInt(8));
+                    stats.setBedsDestroyed(result.getInt(9));
+                    stats.setGamesPlayed(result.getInt(10));
                 }
             }
+        }
+        return stats;
+    }
+
+    @Override
+    public PlayerProfile loadProfile(UUID uuid, int[] quickBuySlots) {
+        try (Connection connection = dataSource.getConnection()) {
+            return new PlayerProfile(uuid, fetchStats(connection, uuid), getLevelData(connection, uuid),
+                    getLanguage(connection, uuid), getQuickBuySlots(connection, uuid, quickBuySlots));
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return stats;
+        return new PlayerProfile(uuid, new PlayerStats(uuid), new Object[]{1, 0, "", 0}, Language.getDefaultLanguage().getIso(), null);
     }
 
     @Override
@@ -324,28 +363,40 @@ public class MySQL implements IDatabase {
 
     @Override
     public HashMap<Integer, String> getQuickBuySlots(UUID uuid, int[] slot) {
-        HashMap<Integer, String> results = new HashMap<>();
         if (slot.length == 0) {
-            return results;
+            return new HashMap<>();
         }
         try (Connection connection = dataSource.getConnection()) {
-            try (PreparedStatement ps = connection.prepareStatement("SELECT * FROM quick_buy_2 WHERE uuid = ?;")) {
-                ps.setString(1, uuid.toString());
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        for (int i : slot) {
-                            String id = rs.getString("slot_" + i);
-                            if (null != id && !id.isEmpty()) {
-                                results.put(i, id);
-                            }
-                        }
-                    }
-                }
+            HashMap<Integer, String> results = getQuickBuySlots(connection, uuid, slot);
+            if (results != null) {
+                return results;
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return results;
+        return new HashMap<>();
+    }
+
+    /**
+     * @return null if the player has no quick buy saved.
+     */
+    private HashMap<Integer, String> getQuickBuySlots(Connection connection, UUID uuid, int[] slot) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT * FROM quick_buy_2 WHERE uuid = ?;")) {
+            ps.setString(1, uuid.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                HashMap<Integer, String> results = new HashMap<>();
+                for (int i : slot) {
+                    String id = rs.getString("slot_" + i);
+                    if (null != id && !id.isEmpty()) {
+                        results.put(i, id);
+                    }
+                }
+                return results;
+            }
+        }
     }
 
     @Override
@@ -386,27 +437,32 @@ public class MySQL implements IDatabase {
 
     @Override
     public Object[] getLevelData(UUID uuid) {
-        String sql = "SELECT level, xp, name, next_cost FROM player_levels WHERE uuid = ?;";
         try (Connection connection = dataSource.getConnection()) {
-            try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                statement.setString(1, uuid.toString());
-                try (ResultSet result = statement.executeQuery()) {
-                    if (result.next()) {
-                        return new Object[]{
-                            result.getInt(1),
-                            result.getInt(2),
-                            result.getString(3),
-                            result.getInt(4)
-                        };
-                    }
-                }
-            }
+            return getLevelData(connection, uuid);
         } catch (SQLException e) {
             e.printStackTrace();
         }
         return new Object[]{1, 0, "", 0};
     }
 
+    private Object[] getLevelData(Connection connection, UUID uuid) throws SQLException {
+        String sql = "SELECT level, xp, name, next_cost FROM player_levels WHERE uuid = ?;";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, uuid.toString());
+            try (ResultSet result = statement.executeQuery()) {
+                if (result.next()) {
+                    return new Object[]{
+                        result.getInt(1),
+                        result.getInt(2),
+                        result.getString(3),
+                        result.getInt(4)
+                    };
+                }
+            }
+        }
+        return new Object[]{1, 0, "", 0};
+    }
+
     @Override
     public void setLevelData(UUID uuid, int level, int xp, String displayName, int nextCost) {
         String sql = "SELECT uuid from player_levels WHERE uuid = ?;";
@@ -482,22 +538,27 @@ public class MySQL implements IDatabase {
 
     @Override
     public String getLanguage(UUID uuid) {
-        String sql = "SELECT iso FROM player_language WHERE uuid = ?;";
         try (Connection connection = dataSource.getConnection()) {
-            try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                statement.setString(1, uuid.toString());
-                try (ResultSet result = statement.executeQuery()) {
-                    if (result.next()) {
-                        return result.getString(1);
-                    }
-                }
-            }
+            return getLanguage(connection, uuid);
         } catch (SQLException e) {
             e.printStackTrace();
         }
         return Language.getDefaultLanguage().getIso();
     }
 
+    private String getLanguage(Connection connection, UUID uuid) throws SQLException {
+        String sql = "SELECT iso FROM player_language WHERE uuid = ?;";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, uuid.toString());
+            try (ResultSet result = statement.executeQuery()) {
+                if (result.next()) {
+                    return result.getString(1);
+                }
+            }
+        }
+        return Language.getDefaultLanguage().getIso();
+    }
+
     @Override
     public void pushQuickBuyChanges(HashMap<Integer, String> updateSlots, UUID uuid, List<IQuickBuyElement> elements) {
         if (updateSlots.isEmpty()) return;
@@ -0,0 +1,83 @@
+package com.tomkeuper.bedwars.database;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.database.PlayerProfile;
+import com.tomkeuper.bedwars.api.stats.IPlayerStats;
+import com.tomkeuper.bedwars.shop.quickbuy.PlayerQuickBuyCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Profiles loaded at pre-login, so the stats, language, level and quick buy of a joining player
+ * come from a single database call instead of one call each.
+ * A profile is kept until the player quits or the login fails.
+ */
+public class PlayerProfileCache {
+
+    private final ConcurrentHashMap<UUID, PlayerProfile> profiles = new ConcurrentHashMap<>();
+    // quick buy is only taken once, later quick buy caches load the latest saved slots
+    private final ConcurrentHashMap<UUID, PlayerProfile> pendingQuickBuy = new ConcurrentHashMap<>();
+
+    private PlayerProfileCache() {
+    }
+
+    public static PlayerProfileCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final PlayerProfileCache INSTANCE = new PlayerProfileCache();
+    }
+
+    /**
+     * Get the profile of a player, loading it from the database if needed.
+     * Must not be called from the main thread.
+     */
+    public PlayerProfile load(UUID uuid) {
+        PlayerProfile profile = profiles.get(uuid);
+        if (profile != null) return profile;
+        long start = System.currentTimeMillis();
+        // stats of a previous session may not be written yet, they are newer than the database row.
+        // checked before and after loading in case the queue is flushed in between
+        IPlayerStats queued = StatsWriteQueue.getInstance().getPending(uuid);
+        profile = BedWars.getRemoteDatabase().loadProfile(uuid, PlayerQuickBuyCache.quickSlots);
+        IPlayerStats stillQueued = StatsWriteQueue.getInstance().getPending(uuid);
+        if (stillQueued != null) {
+            queued = stillQueued;
+        }
+        if (queued != null) {
+            profile = new PlayerProfile(uuid, queued, new Object[]{profile.getLevel(), profile.getXp(), profile.getLevelName(),
+                    profile.getNextLevelCost()}, profile.getLanguage(), profile.getQuickBuySlots());
+        }
+        PlayerProfile previous = profiles.putIfAbsent(uuid, profile);
+        if (previous != null) return previous;
+        pendingQuickBuy.put(uuid, profile);
+        BedWars.debug("Loaded profile of " + uuid + " in " + (System.currentTimeMillis() - start) + "ms.");
+        return profile;
+    }
+
+    /**
+     * @return the loaded profile or null if it was not loaded at pre-login.
+     */
+    @Nullable
+    public PlayerProfile get(UUID uuid) {
+        return profiles.get(uuid);
+    }
+
+    /**
+     * Take the profile to apply its quick buy.
+     *
+     * @return null if the quick buy was already taken or the profile was not loaded.
+     */
+    @Nullable
+    public PlayerProfile takeQuickBuy(UUID uuid) {
+        return pendingQuickBuy.remove(uuid);
+    }
+
+    public void remove(UUID uuid) {
+        profiles.remove(uuid);
+        pendingQuickBuy.remove(uuid);
+    }
+}
@@ -22,6 +22,7 @@ package com.tomkeuper.bedwars.database;
 
 import com.tomkeuper.bedwars.BedWars;
 import com.tomkeuper.bedwars.api.database.IDatabase;
+import com.tomkeuper.bedwars.api.database.PlayerProfile;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.shop.IQuickBuyElement;
 import com.tomkeuper.bedwars.api.stats.IPlayerStats;
@@ -30,6 +31,8 @@ import com.tomkeuper.bedwars.stats.PlayerStats;
 import java.io.File;
 import java.io.IOException;
 import java.sql.*;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,7 +42,16 @@ public class SQLite implements IDatabase {
 
     private String url;
 
+    // shared by every caller, methods using it are synchronized so the stats transaction does not mix with other statements
     private Connection connection;
+    private final StatsUpsert statsUpsert = new StatsUpsert(
+            "INSERT INTO global_stats (name, uuid, first_play, last_play, wins, kills, final_kills, looses, deaths, final_deaths, beds_destroyed, games_played) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT(uuid) DO UPDATE SET name=excluded.name, last_play=excluded.last_play, wins=excluded.wins, " +
+                    "kills=excluded.kills, final_kills=excluded.final_kills, looses=excluded.looses, deaths=excluded.deaths, final_deaths=excluded.final_deaths, " +
+                    "beds_destroyed=excluded.beds_destroyed, games_played=excluded.games_played;",
+            "UPDATE global_stats SET last_play=?, wins=?, kills=?, final_kills=?, looses=?, deaths=?, final_deaths=?, beds_destroyed=?, games_played=?, name=? WHERE uuid = ?;",
+            "INSERT INTO global_stats (name, uuid, first_play, last_play, wins, kills, final_kills, looses, deaths, final_deaths, beds_destroyed, games_played) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);"
+    );
 
     public SQLite() {
         File folder = new File(BedWars.plugin.getDataFolder() + "/Cache");
@@ -77,7 +89,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public void init() {
+    public synchronized void init() {
         String sql;
         try {
             checkConnection();
@@ -106,13 +118,27 @@ public class SQLite implements IDatabase {
                         "iso VARCHAR(200));";
                 st.executeUpdate(sql);
             }
+
+            int version = new SchemaMigrator("SQLite")
+                    .add("unique uuid keys", c -> {
+                        // column types are only affinities in sqlite, only the duplicates and the indexes are needed
+                        for (String table : new String[]{"global_stats", "player_levels", "player_language"}) {
+                            SchemaMigrator.execute(c,
+                                    "DELETE FROM " + table + " WHERE id NOT IN (SELECT MAX(id) FROM " + table + " GROUP BY uuid);",
+                                    "CREATE UNIQUE INDEX IF NOT EXISTS " + table + "_uuid ON " + table + " (uuid);");
+                        }
+                    })
+                    .migrate(connection);
+
+            // upserts need the unique key on uuid added in version 1
+            statsUpsert.setUpsertSupported(version >= 1);
         }catch (SQLException e) {
             e.printStackTrace();
         }
     }
 
     @Override
-    public boolean hasStats(UUID uuid) {
+    public synchronized boolean hasStats(UUID uuid) {
         String sql = "SELECT uuid FROM global_stats WHERE uuid = ?;";
         try {
             checkConnection();
@@ -131,51 +157,29 @@ public class SQLite implements IDatabase {
 
     @Override
     public void saveStats(IPlayerStats stats) {
-        String sql;
         try {
-            checkConnection();
-
-            if (hasStats(stats.getUuid())) {
-                sql = "UPDATE global_stats SET last_play=?, wins=?, kills=?, final_kills=?, looses=?, deaths=?, final_deaths=?, beds_destroyed=?, games_played=?, name=? WHERE uuid = ?;";
-                try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                    statement.setTimestamp(1, Timestamp.from(stats.getLastPlay()));
-                    statement.setInt(2, stats.getWins());
-                    statement.setInt(3, stats.getKills());
-                    statement.setInt(4, stats.getFinalKills());
-                    statement.setInt(5, stats.getLosses());
-                    statement.setInt(6, stats.getDeaths());
-                    statement.setInt(7, stats.getFinalDeaths());
-                    statement.setInt(8, stats.getBedsDestroyed());
-                    statement.setInt(9, stats.getGamesPlayed());
-                    statement.setString(10, stats.getName());
-                    statement.setString(11, stats.getUuid().toString());
-                    statement.executeUpdate();
-                }
-            } else {
-                sql = "INSERT INTO global_stats (name, uuid, first_play, last_play, wins, kills, final_kills, looses, deaths, final_deaths, beds_destroyed, games_played) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?);";
-                try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                    statement.setString(1, stats.getName());
-                    statement.setString(2, stats.getUuid().toString());
-                    statement.setTimestamp(3, Timestamp.from(stats.getFirstPlay()));
-                    statement.setTimestamp(4, Timestamp.from(stats.getLastPlay()));
-                    statement.setInt(5, stats.getWins());
-                    statement.setInt(6, stats.getKills());
-                    statement.setInt(7, stats.getFinalKills());
-                    statement.setInt(8, stats.getLosses());
-                    statement.setInt(9, stats.getDeaths());
-                    statement.setInt(10, stats.getFinalDeaths());
-                    statement.setInt(11, stats.getBedsDestroyed());
-                    statement.setInt(12, stats.getGamesPlayed());
-                    statement.executeUpdate();
-                }
-            }
+            saveBatch(Collections.singletonList(stats));
         } catch (SQLException e) {
             e.printStackTrace();
         }
     }
 
     @Override
-    public IPlayerStats fetchStats(UUID uuid) {
+    public void saveStats(Collection<IPlayerStats> stats) {
+        try {
+            saveBatch(stats);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not save the stats of " + stats.size() + " players.", e);
+        }
+    }
+
+    private synchronized void saveBatch(Collection<IPlayerStats> stats) throws SQLException {
+        checkConnection();
+        statsUpsert.save(connection, stats);
+    }
+
+    @Override
+    public synchronized IPlayerStats fetchStats(UUID uuid) {
         IPlayerStats stats = new PlayerStats(uuid);
         String sql = "SELECT * FROM global_stats WHERE uuid = ?;";
         try {
@@ -205,7 +209,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public void saveCustomStat(String columnName, UUID player, Object value, String dataType) {
+    public synchronized void saveCustomStat(String columnName, UUID player, Object value, String dataType) {
         String sql;
         checkCustomColumnExists(columnName, dataType);
         try {
@@ -231,7 +235,7 @@ public class SQLite implements IDatabase {
         }
     }
 
-    public void checkCustomColumnExists(String columnName, String dataType){
+    public synchronized void checkCustomColumnExists(String columnName, String dataType){
         String sql = "PRAGMA table_info(global_stats)";
         try {
             checkConnection();
@@ -259,7 +263,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public Object getCustomStat(String columnName, UUID player) {
+    public synchronized Object getCustomStat(String columnName, UUID player) {
         String sql = "SELECT "+columnName+" FROM global_stats WHERE uuid = ?;";
         try {
             checkConnection();
@@ -279,7 +283,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public String getQuickBuySlots(UUID p, int slot) {
+    public synchronized String getQuickBuySlots(UUID p, int slot) {
         String result = "";
         try {
             checkConnection();
@@ -299,7 +303,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public boolean hasQuickBuy(UUID uuid) {
+    public synchronized boolean hasQuickBuy(UUID uuid) {
         try {
             checkConnection();
 
@@ -319,7 +323,7 @@ public class SQLite implements IDatabase {
 
     @SuppressWarnings("unused")
     @Override
-    public int getColumn(UUID player, String column) {
+    public synchronized int getColumn(UUID player, String column) {
         String sql = "SELECT ? FROM global_stats WHERE uuid = ?;";
         try {
             checkConnection();
@@ -342,7 +346,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public Object[] getLevelData(UUID player) {
+    public synchronized Object[] getLevelData(UUID player) {
         Object[] r = new Object[]{1, 0, "", 0};
         try {
             checkConnection();
@@ -365,7 +369,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public void setLevelData(UUID player, int level, int xp, String displayName, int nextCost) {
+    public synchronized void setLevelData(UUID player, int level, int xp, String displayName, int nextCost) {
         try {
             checkConnection();
 
@@ -401,7 +405,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public void setLanguage(UUID player, String iso) {
+    public synchronized void setLanguage(UUID player, String iso) {
         try {
             checkConnection();
 
@@ -426,7 +430,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public String getLanguage(UUID player) {
+    public synchronized String getLanguage(UUID player) {
         String iso = Language.getDefaultLanguage().getIso();
         try {
             checkConnection();
@@ -446,7 +450,7 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public void pushQuickBuyChanges(HashMap<Integer, String> updateSlots, UUID uuid, List<IQuickBuyElement> elements) {
+    public synchronized void pushQuickBuyChanges(HashMap<Integer, String> updateSlots, UUID uuid, List<IQuickBuyElement> elements) {
         if (updateSlots.isEmpty()) return;
         boolean hasQuick;
         if (!(hasQuick = hasQuickBuy(uuid))) {
@@ -498,31 +502,47 @@ public class SQLite implements IDatabase {
     }
 
     @Override
-    public HashMap<Integer, String> getQuickBuySlots(UUID uuid, int[] slot) {
-        HashMap<Integer, String> results = new HashMap<>();
+    public synchronized HashMap<Integer, String> getQuickBuySlots(UUID uuid, int[] slot) {
         if (slot.length == 0) {
-            return results;
+            return new HashMap<>();
         }
+        HashMap<Integer, String> results = loadQuickBuySlots(uuid, slot);
+        return results == null ? new HashMap<>() : results;
+    }
+
+    @Override
+    public synchronized PlayerProfile loadProfile(UUID uuid, int[] quickBuySlots) {
+        // quick buy existence and slots are read with a single query
+        return new PlayerProfile(uuid, fetchStats(uuid), getLevelData(uuid), getLanguage(uuid), loadQuickBuySlots(uuid, quickBuySlots));
+    }
+
+    /**
+     * @return null if the player has no quick buy saved.
+     */
+    private HashMap<Integer, String> loadQuickBuySlots(UUID uuid, int[] slot) {
         try {
             checkConnection();
 
             try (PreparedStatement ps = connection.prepareStatement("SELECT * FROM quick_buy_2 WHERE uuid = ?;")) {
                 ps.setString(1, uuid.toString());
                 try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        for (int i : slot) {
-                            String id = rs.getString("slot_" + i);
-                            if (null != id && !id.isEmpty()) {
-                                results.put(i, id);
-                            }
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    HashMap<Integer, String> results = new HashMap<>();
+                    for (int i : slot) {
+                        String id = rs.getString("slot_" + i);
+                        if (null != id && !id.isEmpty()) {
+                            results.put(i, id);
                         }
                     }
+                    return results;
                 }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        return results;
+        return null;
     }
 
     private void checkConnection() throws SQLException {
@@ -0,0 +1,148 @@
+package com.tomkeuper.bedwars.database;
+
+import com.tomkeuper.bedwars.BedWars;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Versioned schema changes for the plugin tables.
+ * The applied version is stored in the bedwars_schema table and every migration newer than it
+ * is applied in order. A failed migration is logged and the following ones are skipped,
+ * so it is retried at the next start.
+ * <p>
+ * Databases shared by several servers should set a lock, so only one server migrates at a time
+ * and the others read the version after it is done.
+ */
+public class SchemaMigrator {
+
+    private static final String VERSION_TABLE = "bedwars_schema";
+
+    private final String database;
+    private final List<Migration> migrations = new ArrayList<>();
+    private String lockSql, unlockSql;
+
+    /**
+     * @param database database name used in logs.
+     */
+    public SchemaMigrator(String database) {
+        this.database = database;
+    }
+
+    /**
+     * Register the next migration. The first one added is version 1.
+     */
+    public SchemaMigrator add(String description, Migration migration) {
+        migrations.add(new Migration() {
+            @Override
+            public void apply(Connection connection) throws SQLException {
+                migration.apply(connection);
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Hold a lock while migrating. The lock must belong to the connection session.
+     *
+     * @param lockSql query acquiring the lock, its first column must be 1 if the lock was acquired.
+     * @param unlockSql query releasing the lock.
+     */
+    public SchemaMigrator lock(String lockSql, String unlockSql) {
+        this.lockSql = lockSql;
+        this.unlockSql = unlockSql;
+        return this;
+    }
+
+    /**
+     * Apply the pending migrations.
+     *
+     * @return the schema version after migrating.
+     */
+    public int migrate(Connection connection) throws SQLException {
+        if (lockSql == null) {
+            return migrateUnlocked(connection);
+        }
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet result = statement.executeQuery(lockSql)) {
+                if (!result.next() || result.getInt(1) != 1) {
+                    throw new SQLException("Could not acquire the " + database + " schema lock.");
+                }
+            }
+        }
+        try {
+            return migrateUnlocked(connection);
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeQuery(unlockSql).close();
+            }
+        }
+    }
+
+    private int migrateUnlocked(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS " + VERSION_TABLE + " (id INTEGER PRIMARY KEY, version INTEGER);");
+        }
+        int version = getVersion(connection);
+        for (int i = version; i < migrations.size(); i++) {
+            Migration migration = migrations.get(i);
+            long start = System.currentTimeMillis();
+            try {
+                migration.apply(connection);
+                setVersion(connection, i + 1);
+            } catch (SQLException e) {
+                BedWars.plugin.getLogger().log(Level.SEVERE, "Could not migrate " + database + " schema to version " + (i + 1) + " (" + migration + ")", e);
+                break;
+            }
+            version = i + 1;
+            BedWars.plugin.getLogger().info("Migrated " + database + " schema to version " + version + " (" + migration + ") in " + (System.currentTimeMillis() - start) + "ms.");
+        }
+        return version;
+    }
+
+    private static int getVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet result = statement.executeQuery("SELECT version FROM " + VERSION_TABLE + " WHERE id = 1;")) {
+                return result.next() ? result.getInt(1) : 0;
+            }
+        }
+    }
+
+    private static void setVersion(Connection connection, int version) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("UPDATE " + VERSION_TABLE + " SET version = ? WHERE id = 1;")) {
+            statement.setInt(1, version);
+            if (statement.executeUpdate() != 0) return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + VERSION_TABLE + " (id, version) VALUES (1, ?);")) {
+            statement.setInt(1, version);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Run a list of statements.
+     */
+    static void execute(Connection connection, String... sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String s : sql) {
+                statement.executeUpdate(s);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Migration {
+        void apply(Connection connection) throws SQLException;
+    }
+}
@@ -0,0 +1,142 @@
+package com.tomkeuper.bedwars.database;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.stats.IPlayerStats;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Batched global stats writes shared by the database implementations.
+ * Uses the native upsert statement of the database when available, otherwise a batched update
+ * followed by a batched insert of the rows that did not exist yet. Everything runs in a single transaction.
+ * <p>
+ * Upsert and insert statements are bound as: name, uuid, first_play, last_play, wins, kills, final_kills,
+ * losses, deaths, final_deaths, beds_destroyed, games_played.
+ * The update statement is bound as: last_play, wins, kills, final_kills, losses, deaths, final_deaths,
+ * beds_destroyed, games_played, name, uuid.
+ */
+final class StatsUpsert {
+
+    private final String upsertSql, updateSql, insertSql;
+    private volatile boolean upsert = false;
+
+    StatsUpsert(String upsertSql, String updateSql, String insertSql) {
+        this.upsertSql = upsertSql;
+        this.updateSql = updateSql;
+        this.insertSql = insertSql;
+    }
+
+    /**
+     * Enable the native upsert. Only do this once the table has a unique key on the uuid column.
+     */
+    void setUpsertSupported(boolean upsert) {
+        this.upsert = upsert;
+    }
+
+    boolean isUpsertSupported() {
+        return upsert;
+    }
+
+    void save(Connection connection, Collection<IPlayerStats> stats) throws SQLException {
+        if (stats.isEmpty()) return;
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            if (upsert) {
+                try {
+                    executeUpsert(connection, stats);
+                    connection.commit();
+                    return;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    upsert = false;
+                    BedWars.plugin.getLogger().warning("Could not save stats using upsert, falling back to update and insert: " + e.getMessage());
+                }
+            }
+            executeUpdateInsert(connection, stats);
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void executeUpsert(Connection connection, Collection<IPlayerStats> stats) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(upsertSql)) {
+            for (IPlayerStats s : stats) {
+                bindInsert(statement, s);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void executeUpdateInsert(Connection connection, Collection<IPlayerStats> stats) throws SQLException {
+        List<IPlayerStats> missing = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(updateSql)) {
+            for (IPlayerStats s : stats) {
+                bindUpdate(statement, s);
+                statement.addBatch();
+            }
+            int[] updated = statement.executeBatch();
+            int i = 0;
+            for (IPlayerStats s : stats) {
+                // SUCCESS_NO_INFO means the row count is unknown, assume the row exists
+                if (updated[i] == 0) {
+                    missing.add(s);
+                }
+                i++;
+            }
+        }
+        if (missing.isEmpty()) return;
+        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+            for (IPlayerStats s : missing) {
+                bindInsert(statement, s);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void bindInsert(PreparedStatement statement, IPlayerStats stats) throws SQLException {
+        statement.setString(1, stats.getName());
+        statement.setString(2, stats.getUuid().toString());
+        statement.setTimestamp(3, toTimestamp(stats.getFirstPlay()));
+        statement.setTimestamp(4, toTimestamp(stats.getLastPlay()));
+        statement.setInt(5, stats.getWins());
+        statement.setInt(6, stats.getKills());
+        statement.setInt(7, stats.getFinalKills());
+        statement.setInt(8, stats.getLosses());
+        statement.setInt(9, stats.getDeaths());
+        statement.setInt(10, stats.getFinalDeaths());
+        statement.setInt(11, stats.getBedsDestroyed());
+        statement.setInt(12, stats.getGamesPlayed());
+    }
+
+    private static void bindUpdate(PreparedStatement statement, IPlayerStats stats) throws SQLException {
+        statement.setTimestamp(1, toTimestamp(stats.getLastPlay()));
+        statement.setInt(2, stats.getWins());
+        statement.setInt(3, stats.getKills());
+        statement.setInt(4, stats.getFinalKills());
+        statement.setInt(5, stats.getLosses());
+        statement.setInt(6, stats.getDeaths());
+        statement.setInt(7, stats.getFinalDeaths());
+        statement.setInt(8, stats.getBedsDestroyed());
+        statement.setInt(9, stats.getGamesPlayed());
+        statement.setString(10, stats.getName());
+        statement.setString(11, stats.getUuid().toString());
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+}
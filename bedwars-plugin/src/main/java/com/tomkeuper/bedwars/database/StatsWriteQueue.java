@@ -0,0 +1,174 @@
+package com.tomkeuper.bedwars.database;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.stats.IPlayerStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Write-behind queue for player stats.
+ * Stats saved in a short window are coalesced by player and written by a dedicated thread
+ * with {@link com.tomkeuper.bedwars.api.database.IDatabase#saveStats(java.util.Collection)}.
+ * Pending stats are written synchronously when the plugin is disabled.
+ */
+public class StatsWriteQueue {
+
+    // short delay so the stats saved at the end of a game go in the same batch
+    private static final long FLUSH_DELAY_MILLIS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ConcurrentHashMap<UUID, IPlayerStats> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private volatile boolean shutdown = false;
+
+    private volatile long flushes = 0, written = 0, failures = 0;
+    private volatile long lastFlushMillis = 0, maxFlushMillis = 0, totalFlushMillis = 0;
+
+    private StatsWriteQueue() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "BedWars2023-StatsWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static StatsWriteQueue getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        private static final StatsWriteQueue INSTANCE = new StatsWriteQueue();
+    }
+
+    /**
+     * Queue the stats of a player to be saved.
+     * If the same player is queued again before the flush only the latest stats are written.
+     */
+    public void enqueue(IPlayerStats stats) {
+        if (shutdown) {
+            BedWars.getRemoteDatabase().saveStats(stats);
+            return;
+        }
+        pending.put(stats.getUuid(), stats);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.schedule(() -> {
+                scheduled.set(false);
+                flush();
+                // retry failed writes and pick up stats queued meanwhile
+                if (!pending.isEmpty() && !shutdown) {
+                    scheduleFlush();
+                }
+            }, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Get the stats of a player waiting to be written.
+     *
+     * @return null if the player has nothing queued.
+     */
+    public IPlayerStats getPending(UUID uuid) {
+        return pending.get(uuid);
+    }
+
+    /**
+     * Write a player's queued stats now instead of waiting for the batch window,
+     * so other servers reading the database see them. Used when the player quits.
+     */
+    public void flushPlayer(UUID uuid) {
+        if (shutdown || !pending.containsKey(uuid)) return;
+        executor.execute(this::flush);
+    }
+
+    /**
+     * Write all the pending stats in a single batch.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+        List<IPlayerStats> batch = new ArrayList<>(pending.size());
+        for (UUID uuid : pending.keySet()) {
+            IPlayerStats stats = pending.remove(uuid);
+            if (stats != null) {
+                batch.add(stats);
+            }
+        }
+        long start = System.nanoTime();
+        try {
+            BedWars.getRemoteDatabase().saveStats(batch);
+            written += batch.size();
+        } catch (Exception e) {
+            failures++;
+            for (IPlayerStats stats : batch) {
+                pending.putIfAbsent(stats.getUuid(), stats);
+            }
+            BedWars.plugin.getLogger().log(Level.WARNING, "Could not save the stats of " + batch.size() + " players.", e);
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        flushes++;
+        lastFlushMillis = millis;
+        totalFlushMillis += millis;
+        if (millis > maxFlushMillis) maxFlushMillis = millis;
+        BedWars.debug("Saved stats of " + batch.size() + " players in " + millis + "ms, " + pending.size() + " left in queue.");
+    }
+
+    /**
+     * Stop the writer thread and write everything left in the queue.
+     * Stats queued after this are saved directly.
+     */
+    public void shutdown() {
+        shutdown = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                BedWars.plugin.getLogger().warning("Stats writer did not finish in " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * @return amount of players waiting to be saved.
+     */
+    public int getQueueDepth() {
+        return pending.size();
+    }
+
+    public long getFlushCount() {
+        return flushes;
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    public long getFailedFlushCount() {
+        return failures;
+    }
+
+    public long getLastFlushMillis() {
+        return lastFlushMillis;
+    }
+
+    public long getMaxFlushMillis() {
+        return maxFlushMillis;
+    }
+
+    public double getAverageFlushMillis() {
+        return flushes == 0 ? 0 : (double) totalFlushMillis / flushes;
+    }
+}
@@ -22,6 +22,7 @@ package com.tomkeuper.bedwars.levels.internal;
 
 import com.tomkeuper.bedwars.BedWars;
 import com.tomkeuper.bedwars.api.arena.team.ITeam;
+import com.tomkeuper.bedwars.api.database.PlayerProfile;
 import com.tomkeuper.bedwars.api.events.gameplay.GameEndEvent;
 import com.tomkeuper.bedwars.api.events.player.PlayerBedBreakEvent;
 import com.tomkeuper.bedwars.api.events.player.PlayerKillEvent;
@@ -30,6 +31,7 @@ import com.tomkeuper.bedwars.api.events.player.PlayerXpGainEvent;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.configuration.LevelsConfig;
+import com.tomkeuper.bedwars.database.PlayerProfileCache;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -54,6 +56,11 @@ public class LevelListeners implements Listener {
         final UUID u = e.getPlayer().getUniqueId();
         // create empty level first
         new PlayerLevel(u, 1, 0);
+        PlayerProfile profile = PlayerProfileCache.getInstance().get(u);
+        if (profile != null) {
+            PlayerLevel.getLevelByPlayer(u).lazyLoad(profile.getLevel(), profile.getXp());
+            return;
+        }
         Bukkit.getScheduler().runTaskAsynchronously(BedWars.plugin, () -> {
             Object[] levelData = BedWars.getRemoteDatabase().getLevelData(u);
             PlayerLevel.getLevelByPlayer(u).lazyLoad((Integer) levelData[0], (Integer) levelData[1]);
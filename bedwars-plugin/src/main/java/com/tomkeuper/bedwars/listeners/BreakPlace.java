@@ -30,16 +30,14 @@ import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import com.tomkeuper.bedwars.api.events.player.PlayerBedBreakEvent;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
-import com.tomkeuper.bedwars.api.region.Region;
 import com.tomkeuper.bedwars.api.server.ServerType;
 import com.tomkeuper.bedwars.api.util.BlastProtectionUtil;
 import com.tomkeuper.bedwars.arena.Arena;
+import com.tomkeuper.bedwars.arena.Misc;
 import com.tomkeuper.bedwars.configuration.Sounds;
 import com.tomkeuper.bedwars.support.paper.PaperSupport;
-import com.tomkeuper.bedwars.popuptower.TowerEast;
-import com.tomkeuper.bedwars.popuptower.TowerNorth;
-import com.tomkeuper.bedwars.popuptower.TowerSouth;
-import com.tomkeuper.bedwars.popuptower.TowerWest;
+import com.tomkeuper.bedwars.popuptower.PopUpTower;
+import com.tomkeuper.bedwars.popuptower.TowerTemplate;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -155,12 +153,10 @@ public class BreakPlace implements Listener {
                 return;
             }
 
-            for (Region r : a.getRegionsList()) {
-                if (r.isInRegion(e.getBlock().getLocation()) && r.isProtected()) {
-                    e.setCancelled(true);
-                    p.sendMessage(getMsg(p, Messages.INTERACT_CANNOT_PLACE_BLOCK));
-                    return;
-                }
+            if (Misc.isInProtectedRegion(e.getBlock().getLocation(), a)) {
+                e.setCancelled(true);
+                p.sendMessage(getMsg(p, Messages.INTERACT_CANNOT_PLACE_BLOCK));
+                return;
             }
 
             // prevent modifying wood if protected
@@ -188,21 +184,8 @@ public class BreakPlace implements Listener {
                     Location loc = e.getBlock().getLocation();
                     IArena a1 = Arena.getArenaByPlayer(p);
                     TeamColor col = a1.getTeam(p).getColor();
-                    double rotation = (p.getLocation().getYaw() - 90.0F) % 360.0F;
-                    if (rotation < 0.0D) {
-                        rotation += 360.0D;
-                    }
-                    if (45.0D <= rotation && rotation < 135.0D) {
-                        new TowerSouth(loc, e.getBlockPlaced(), col, p);
-                    } else if (225.0D <= rotation && rotation < 315.0D) {
-                        new TowerNorth(loc, e.getBlockPlaced(), col, p);
-                    } else if (135.0D <= rotation && rotation < 225.0D) {
-                        new TowerWest(loc, e.getBlockPlaced(), col, p);
-                    } else if (0.0D <= rotation && rotation < 45.0D) {
-                        new TowerEast(loc, e.getBlockPlaced(), col, p);
-                    } else if (315.0D <= rotation && rotation < 360.0D) {
-                        new TowerEast(loc, e.getBlockPlaced(), col, p);
-                    }
+                    new PopUpTower(shop.getTowerTemplate(), TowerTemplate.Direction.fromYaw(p.getLocation().getYaw()),
+                            loc, e.getBlockPlaced(), col, p, a1);
                 }
             }
             return;
@@ -365,12 +348,10 @@ public class BreakPlace implements Listener {
                 }
             }
 
-            for (Region r : a.getRegionsList()) {
-                if (r.isInRegion(e.getBlock().getLocation()) && r.isProtected()) {
-                    e.setCancelled(true);
-                    p.sendMessage(getMsg(p, Messages.INTERACT_CANNOT_BREAK_BLOCK));
-                    return;
-                }
+            if (Misc.isInProtectedRegion(e.getBlock().getLocation(), a)) {
+                e.setCancelled(true);
+                p.sendMessage(getMsg(p, Messages.INTERACT_CANNOT_BREAK_BLOCK));
+                return;
             }
 
             if (!a.isMapBreakable()) {
@@ -492,12 +473,10 @@ public class BreakPlace implements Listener {
                 p.sendMessage(getMsg(p, Messages.ARENA_MIN_BUILD_LIMIT_REACHED));
             }
 
-            for (Region r : a.getRegionsList()) {
-                if (r.isInRegion(e.getBlockClicked().getRelative(e.getBlockFace()).getLocation()) && r.isProtected()) {
-                    e.setCancelled(true);
-                    p.sendMessage(getMsg(p, Messages.INTERACT_CANNOT_PLACE_BLOCK));
-                    return;
-                }
+            if (Misc.isInProtectedRegion(e.getBlockClicked().getRelative(e.getBlockFace()).getLocation(), a)) {
+                e.setCancelled(true);
+                p.sendMessage(getMsg(p, Messages.INTERACT_CANNOT_PLACE_BLOCK));
+                return;
             }
             /* Remove empty bucket */
             Bukkit.getScheduler().runTaskLater(plugin, () -> nms.minusAmount(e.getPlayer(), e.getItemStack(), 1), 3L);
@@ -40,7 +40,6 @@ import com.tomkeuper.bedwars.arena.SetupSession;
 import com.tomkeuper.bedwars.arena.team.BedWarsTeam;
 import com.tomkeuper.bedwars.configuration.Sounds;
 import com.tomkeuper.bedwars.listeners.dropshandler.PlayerDrops;
-import com.tomkeuper.bedwars.support.paper.PaperSupport;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.*;
@@ -49,16 +48,13 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.*;
 import org.bukkit.event.player.PlayerItemConsumeEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
-import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.projectiles.ProjectileSource;
 import org.bukkit.util.Vector;
 
 import java.text.DecimalFormat;
-import java.util.Map;
 
 import static com.tomkeuper.bedwars.api.language.Language.getMsg;
 
@@ -515,6 +511,9 @@ public class DamageDeathMove implements Listener {
                 e.setRespawnLocation(a.getSpectatorLocation());
                 a.addSpectator(e.getPlayer(), true, null);
                 t.getMembers().remove(e.getPlayer());
+                if (a instanceof Arena) {
+                    ((Arena) a).getPlayerIndex().removeTeam(e.getPlayer());
+                }
                 e.getPlayer().sendMessage(getMsg(e.getPlayer(), Messages.PLAYER_DIE_ELIMINATED_CHAT));
                 if (t.getMembers().isEmpty()) {
                     Bukkit.getPluginManager().callEvent(new TeamEliminatedEvent(a, t));
@@ -538,107 +537,6 @@ public class DamageDeathMove implements Listener {
         }
     }
 
-    @EventHandler
-    public void onMove(PlayerMoveEvent e) {
-        if (Arena.isInArena(e.getPlayer())) {
-            IArena a = Arena.getArenaByPlayer(e.getPlayer());
-            if (e.getFrom().getChunk() != e.getTo().getChunk()) {
-
-                /* update armor-stands hidden by nms */
-                String iso = Language.getPlayerLanguage(e.getPlayer()).getIso();
-                for (IGenerator o : a.getOreGenerators()) {
-                    o.updateHolograms(e.getPlayer(), iso);
-                }
-                for (ITeam t : a.getTeams()) {
-                    for (IGenerator o : t.getGenerators()) {
-                        o.updateHolograms(e.getPlayer(), iso);
-                    }
-                }
-                for (ShopHolo sh : ShopHolo.getShopHolo()) {
-                    if (sh.getA() == a) {
-                        sh.updateForPlayer(e.getPlayer(), iso);
-                    }
-                }
-
-                // hide armor for those with invisibility potions
-                if (!a.getShowTime().isEmpty()) {
-                    // generic hide packets
-                    for (Map.Entry<Player, Integer> entry : a.getShowTime().entrySet()) {
-                        if (entry.getValue() > 1) {
-                            BedWars.nms.hideArmor(entry.getKey(), e.getPlayer());
-                        }
-                    }
-                    // if the moving player has invisible armor
-                    if (a.getShowTime().containsKey(e.getPlayer())) {
-                        for (Player p : a.getPlayers()) {
-                            if (a.getTeam(e.getPlayer()).equals(a.getTeam(p))) continue;
-                            BedWars.nms.hideArmor(e.getPlayer(), p);
-                        }
-                    }
-                    /* hide players from spectators */
-                    if (a.getShowTime().containsKey(e.getPlayer())) {
-                        for (Player p : a.getSpectators()) {
-                            BedWars.nms.hideArmor(e.getPlayer(), p);
-                        }
-                    }
-                }
-            }
-
-            if (a.isSpectator(e.getPlayer()) || a.isReSpawning(e.getPlayer())) {
-                if (e.getTo().getY() < 0) {
-                    PaperSupport.teleportC(e.getPlayer(), a.isSpectator(e.getPlayer()) ? a.getSpectatorLocation() : a.getReSpawnLocation(), PlayerTeleportEvent.TeleportCause.PLUGIN);
-                    e.getPlayer().setAllowFlight(true);
-                    e.getPlayer().setFlying(true);
-                    // how to remove fall velocity?
-                }
-            } else {
-                if (a.getStatus() == GameState.playing) {
-                    if (e.getPlayer().getLocation().getBlockY() <= a.getYKillHeight()) {
-                        e.getPlayer().getInventory().clear(); //Fix issue #149
-                        BedWars.nms.voidKill(e.getPlayer());
-                    }
-                    for (ITeam t : a.getTeams()) {
-                        if (!e.getPlayer().getLocation().getWorld().equals(t.getBed().getWorld())) continue;
-                        if (e.getPlayer().getLocation().distance(t.getBed()) < 4) {
-                            if (t.isMember(e.getPlayer()) && t instanceof BedWarsTeam) {
-                                if (((BedWarsTeam) t).getBedHolo(e.getPlayer()) == null) continue;
-                                if (!((BedWarsTeam) t).getBedHolo(e.getPlayer()).isHidden()) {
-                                    ((BedWarsTeam) t).getBedHolo(e.getPlayer()).hide();
-                                }
-                            }
-                        } else {
-                            if (t.isMember(e.getPlayer()) && t instanceof BedWarsTeam) {
-                                if (((BedWarsTeam) t).getBedHolo(e.getPlayer()) == null) continue;
-                                if (((BedWarsTeam) t).getBedHolo(e.getPlayer()).isHidden()) {
-                                    ((BedWarsTeam) t).getBedHolo(e.getPlayer()).show();
-                                }
-                            }
-                        }
-                    }
-                    if (e.getFrom() != e.getTo()) {
-                        Arena.afkCheck.remove(e.getPlayer().getUniqueId());
-                        BedWars.getAPI().getAFKUtil().setPlayerAFK(e.getPlayer(), false);
-                    }
-                } else {
-                    if (e.getPlayer().getLocation().getBlockY() <= 0) {
-                        ITeam bwt = a.getTeam(e.getPlayer());
-                        if (bwt != null) {
-                            PaperSupport.teleport(e.getPlayer(), bwt.getSpawn());
-                        } else {
-                           PaperSupport.teleport(e.getPlayer(), a.getSpectatorLocation());
-                        }
-                    }
-                }
-            }
-        } else {
-            if (BedWars.config.getBoolean(ConfigPath.LOBBY_VOID_TELEPORT_ENABLED) && e.getPlayer().getWorld().getName().equalsIgnoreCase(BedWars.config.getLobbyWorldName()) && BedWars.getServerType() == ServerType.MULTIARENA) {
-                if (e.getTo().getY() < BedWars.config.getInt(ConfigPath.LOBBY_VOID_TELEPORT_HEIGHT)) {
-                    PaperSupport.teleportC(e.getPlayer(), BedWars.config.getConfigLoc("lobbyLoc"), PlayerTeleportEvent.TeleportCause.PLUGIN);
-                }
-            }
-        }
-    }
-
     @EventHandler
     public void onProjHit(ProjectileHitEvent e) {
         Projectile proj = e.getEntity();
@@ -0,0 +1,68 @@
+package com.tomkeuper.bedwars.listeners;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.arena.IArena;
+import com.tomkeuper.bedwars.api.arena.generator.IGenerator;
+import com.tomkeuper.bedwars.api.arena.team.ITeam;
+import com.tomkeuper.bedwars.api.language.Language;
+import com.tomkeuper.bedwars.arena.Arena;
+import com.tomkeuper.bedwars.arena.OreGenerator;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * Packet generator holograms remember who they were sent to, but the client drops them
+ * on respawn, on world change and when teleported out of view distance.
+ * The player is forgotten by the holograms and they are sent again on the next tick, once the client is at its new location.
+ */
+public class GeneratorHologramListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent e) {
+        resend(e.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent e) {
+        resend(e.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent e) {
+        Location from = e.getFrom(), to = e.getTo();
+        if (to == null || from.getWorld() != to.getWorld()) return;
+        if (OreGenerator.isInViewDistance(from, to)) return;
+        resend(e.getPlayer());
+    }
+
+    private static void resend(Player player) {
+        IArena arena = Arena.getArenaByPlayer(player);
+        if (arena == null) return;
+        forEachGenerator(arena, g -> g.removeHologramViewer(player));
+        Bukkit.getScheduler().runTask(BedWars.plugin, () -> {
+            if (!player.isOnline() || Arena.getArenaByPlayer(player) != arena) return;
+            String iso = Language.getPlayerLanguage(player).getIso();
+            forEachGenerator(arena, g -> g.updateHolograms(player, iso));
+        });
+    }
+
+    private static void forEachGenerator(IArena arena, Consumer<IGenerator> action) {
+        for (IGenerator o : arena.getOreGenerators()) {
+            action.accept(o);
+        }
+        for (ITeam t : arena.getTeams()) {
+            for (IGenerator o : t.getGenerators()) {
+                action.accept(o);
+            }
+        }
+    }
+}
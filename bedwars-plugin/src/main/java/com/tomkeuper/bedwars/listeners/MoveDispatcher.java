@@ -0,0 +1,152 @@
+package com.tomkeuper.bedwars.listeners;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.arena.GameState;
+import com.tomkeuper.bedwars.api.arena.IArena;
+import com.tomkeuper.bedwars.api.arena.generator.IGenerator;
+import com.tomkeuper.bedwars.api.arena.shop.ShopHolo;
+import com.tomkeuper.bedwars.api.arena.team.ITeam;
+import com.tomkeuper.bedwars.api.configuration.ConfigPath;
+import com.tomkeuper.bedwars.api.language.Language;
+import com.tomkeuper.bedwars.api.server.ServerType;
+import com.tomkeuper.bedwars.arena.Arena;
+import com.tomkeuper.bedwars.arena.ZoneIndex;
+import com.tomkeuper.bedwars.arena.team.BedWarsTeam;
+import com.tomkeuper.bedwars.arena.upgrades.BaseListener;
+import com.tomkeuper.bedwars.support.paper.PaperSupport;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.Map;
+
+/**
+ * Single handler for player movement.
+ * Most move packets only change the head rotation, so everything except the afk reset
+ * only runs when the player moves to another block. Island and bed checks use the arena {@link ZoneIndex}.
+ */
+public class MoveDispatcher implements Listener {
+
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onMove(PlayerMoveEvent e) {
+        Player p = e.getPlayer();
+        Location from = e.getFrom(), to = e.getTo();
+        if (to == null) return;
+        IArena a = Arena.getArenaByPlayer(p);
+
+        if (a == null) {
+            if (from.getBlockY() == to.getBlockY()) return;
+            if (BedWars.config.getBoolean(ConfigPath.LOBBY_VOID_TELEPORT_ENABLED) && p.getWorld().getName().equalsIgnoreCase(BedWars.config.getLobbyWorldName()) && BedWars.getServerType() == ServerType.MULTIARENA) {
+                if (to.getY() < BedWars.config.getInt(ConfigPath.LOBBY_VOID_TELEPORT_HEIGHT)) {
+                    PaperSupport.teleportC(p, BedWars.config.getConfigLoc("lobbyLoc"), PlayerTeleportEvent.TeleportCause.PLUGIN);
+                }
+            }
+            return;
+        }
+
+        boolean watching = a.isSpectator(p) || a.isReSpawning(p);
+        boolean playing = a.getStatus() == GameState.playing;
+        if (playing && !watching) {
+            // looking around counts as activity too
+            Arena.afkCheck.remove(p.getUniqueId());
+            BedWars.getAPI().getAFKUtil().setPlayerAFK(p, false);
+        }
+
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY() && from.getBlockZ() == to.getBlockZ()
+                && from.getWorld() == to.getWorld()) return;
+
+        if ((from.getBlockX() >> 4) != (to.getBlockX() >> 4) || (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4) || from.getWorld() != to.getWorld()) {
+            onChunkChange(p, a);
+        }
+
+        if (watching) {
+            if (to.getY() < 0) {
+                PaperSupport.teleportC(p, a.isSpectator(p) ? a.getSpectatorLocation() : a.getReSpawnLocation(), PlayerTeleportEvent.TeleportCause.PLUGIN);
+                p.setAllowFlight(true);
+                p.setFlying(true);
+            }
+            return;
+        }
+
+        if (!playing) {
+            if (to.getBlockY() <= 0) {
+                ITeam bwt = a.getTeam(p);
+                if (bwt != null) {
+                    PaperSupport.teleport(p, bwt.getSpawn());
+                } else {
+                    PaperSupport.teleport(p, a.getSpectatorLocation());
+                }
+            }
+            return;
+        }
+
+        if (!(a instanceof Arena)) return;
+        ZoneIndex zones = ((Arena) a).getZoneIndex();
+
+        if (zones.isVoid(to.getBlockY())) {
+            p.getInventory().clear(); //Fix issue #149
+            BedWars.nms.voidKill(p);
+        }
+
+        ITeam team = a.getTeam(p);
+        if (team instanceof BedWarsTeam && ((BedWarsTeam) team).getBedHolo(p) != null) {
+            if (zones.isInBedRange(team, to)) {
+                if (!((BedWarsTeam) team).getBedHolo(p).isHidden()) {
+                    ((BedWarsTeam) team).getBedHolo(p).hide();
+                }
+            } else if (((BedWarsTeam) team).getBedHolo(p).isHidden()) {
+                ((BedWarsTeam) team).getBedHolo(p).show();
+            }
+        }
+
+        BaseListener.checkEvents(p, a, zones.getBase(to));
+    }
+
+    /**
+     * Update the entities hidden by nms when a player enters another chunk.
+     */
+    private static void onChunkChange(Player p, IArena a) {
+        /* update armor-stands hidden by nms */
+        String iso = Language.getPlayerLanguage(p).getIso();
+        for (IGenerator o : a.getOreGenerators()) {
+            o.updateHolograms(p, iso);
+        }
+        for (ITeam t : a.getTeams()) {
+            for (IGenerator o : t.getGenerators()) {
+                o.updateHolograms(p, iso);
+            }
+        }
+        for (ShopHolo sh : ShopHolo.getShopHolo()) {
+            if (sh.getA() == a) {
+                sh.updateForPlayer(p, iso);
+            }
+        }
+
+        // hide armor for those with invisibility potions
+        if (!a.getShowTime().isEmpty()) {
+            // generic hide packets
+            for (Map.Entry<Player, Integer> entry : a.getShowTime().entrySet()) {
+                if (entry.getValue() > 1) {
+                    BedWars.nms.hideArmor(entry.getKey(), p);
+                }
+            }
+            // if the moving player has invisible armor
+            if (a.getShowTime().containsKey(p)) {
+                for (Player other : a.getPlayers()) {
+                    if (a.getTeam(p).equals(a.getTeam(other))) continue;
+                    BedWars.nms.hideArmor(p, other);
+                }
+            }
+            /* hide players from spectators */
+            if (a.getShowTime().containsKey(p)) {
+                for (Player spectator : a.getSpectators()) {
+                    BedWars.nms.hideArmor(p, spectator);
+                }
+            }
+        }
+    }
+}
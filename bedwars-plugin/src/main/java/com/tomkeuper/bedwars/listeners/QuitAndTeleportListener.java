@@ -60,16 +60,16 @@ public class QuitAndTeleportListener implements Listener {
         }
 
         //Save preferred language
-        if (Language.getLangByPlayer().containsKey(p.getUniqueId())) {
+        if (Language.getLanguageByPlayer().containsKey(p.getUniqueId())) {
             final UUID u = p.getUniqueId();
             Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                String iso = Language.getLangByPlayer().get(p.getUniqueId()).getIso();
+                String iso = Language.getLanguageByPlayer().get(p.getUniqueId()).getIso();
                 if (Language.isLanguageExist(iso)) {
                     if (BedWars.config.getYml().getStringList(ConfigPath.GENERAL_CONFIGURATION_DISABLED_LANGUAGES).contains(iso))
                         iso = Language.getDefaultLanguage().getIso();
                     BedWars.getRemoteDatabase().setLanguage(u, iso);
                 }
-                Language.getLangByPlayer().remove(p.getUniqueId());
+                Language.getLanguageByPlayer().remove(p.getUniqueId());
             });
         }
 
@@ -26,6 +26,7 @@ import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import com.tomkeuper.bedwars.api.events.player.PlayerKillEvent;
 import com.tomkeuper.bedwars.api.language.Messages;
+import com.tomkeuper.bedwars.shop.main.CurrencyLedger;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -113,6 +114,7 @@ public class PlayerDrops {
 
                         // add to killer inventory
                         killer.getInventory().addItem(i);
+                        CurrencyLedger.invalidate(killer);
 
                         // count items
                         if (materialDrops.containsKey(i.getType())) {
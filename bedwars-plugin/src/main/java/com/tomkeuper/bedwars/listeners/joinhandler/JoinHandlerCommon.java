@@ -22,6 +22,7 @@ package com.tomkeuper.bedwars.listeners.joinhandler;
 
 import com.tomkeuper.bedwars.BedWars;
 import com.tomkeuper.bedwars.api.language.Language;
+import com.tomkeuper.bedwars.database.PlayerProfileCache;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -49,7 +50,8 @@ public class JoinHandlerCommon implements Listener {
 
     @EventHandler
     public void requestLanguage(AsyncPlayerPreLoginEvent e) {
-        String iso = BedWars.getRemoteDatabase().getLanguage(e.getUniqueId());
+        // loads the whole profile, the stats listener reuses it
+        String iso = PlayerProfileCache.getInstance().load(e.getUniqueId()).getLanguage();
         Bukkit.getScheduler().runTask(BedWars.plugin, () -> Language.setPlayerLanguage(e.getUniqueId(), iso));
     }
 
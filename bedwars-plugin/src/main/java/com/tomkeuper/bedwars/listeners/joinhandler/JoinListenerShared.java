@@ -28,6 +28,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 
+import java.util.UUID;
+
 public class JoinListenerShared implements Listener {
 
     @EventHandler
@@ -45,8 +47,9 @@ public class JoinListenerShared implements Listener {
 
         Bukkit.getScheduler().runTaskLater(BedWars.plugin, () -> {
             // Hide new player to players and spectators, and vice versa
-            for (Player inArena : Arena.getArenaByPlayer().keySet()){
-                if (inArena.equals(p)) continue;
+            for (UUID uuid : Arena.getArenaByPlayer().keySet()){
+                Player inArena = Bukkit.getPlayer(uuid);
+                if (inArena == null || inArena.equals(p)) continue;
                 BedWars.nms.spigotHidePlayer(p, inArena);
                 BedWars.nms.spigotHidePlayer(inArena, p);
             }
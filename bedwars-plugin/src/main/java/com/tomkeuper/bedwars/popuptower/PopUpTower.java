@@ -0,0 +1,78 @@
+package com.tomkeuper.bedwars.popuptower;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.arena.IArena;
+import com.tomkeuper.bedwars.api.arena.team.TeamColor;
+import com.tomkeuper.bedwars.api.configuration.ConfigPath;
+import com.tomkeuper.bedwars.arena.Misc;
+import com.tomkeuper.bedwars.configuration.Sounds;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+
+/**
+ * Builds a pop-up tower from a {@link TowerTemplate}, a few blocks per tick.
+ * Blocks above the build limit or in protected regions are filtered once when the tower is placed,
+ * so each tick only checks that the target block is still empty.
+ */
+public class PopUpTower {
+
+    private static final int BLOCKS_PER_TICK = 2;
+
+    private BukkitTask task;
+    private int index = 0;
+
+    public PopUpTower(TowerTemplate template, TowerTemplate.Direction direction, Location loc, Block chest, TeamColor color, Player p, IArena arena) {
+        ItemStack itemInHand = p.getInventory().getItemInHand();
+        if (itemInHand.getAmount() > 1) {
+            itemInHand.setAmount(itemInHand.getAmount() - 1);
+        } else {
+            p.getInventory().setItemInHand(null);
+        }
+
+        int[] blocks = filter(template.getBlocks(direction), chest, arena);
+        int ladderData = direction.getLadderData();
+        this.task = Bukkit.getScheduler().runTaskTimer(BedWars.plugin, () -> {
+            Sounds.playsoundArea("pop-up-tower-build", loc, 1.0F, 0.5F);
+            for (int placed = 0; placed < BLOCKS_PER_TICK && index < blocks.length; placed++, index++) {
+                int block = blocks[index];
+                int x = TowerTemplate.getX(block), y = TowerTemplate.getY(block), z = TowerTemplate.getZ(block);
+                if (chest.getRelative(x, y, z).getType() != Material.AIR) continue;
+                if (TowerTemplate.isLadder(block)) {
+                    BedWars.nms.placeLadder(chest, x, y, z, arena, ladderData);
+                } else {
+                    BedWars.nms.placeTowerBlocks(chest, arena, color, x, y, z);
+                }
+            }
+            if (index >= blocks.length) {
+                this.task.cancel();
+            }
+        }, 0L, 1L);
+    }
+
+    /**
+     * Remove the blocks that can never be placed in this arena.
+     */
+    private static int[] filter(int[] blocks, Block chest, IArena arena) {
+        int maxY = arena.getConfig().getInt(ConfigPath.ARENA_CONFIGURATION_MAX_BUILD_Y);
+        int[] allowed = new int[blocks.length];
+        int size = 0;
+        Location location = chest.getLocation();
+        for (int block : blocks) {
+            int x = TowerTemplate.getX(block), y = TowerTemplate.getY(block), z = TowerTemplate.getZ(block);
+            if (chest.getY() + y >= maxY) continue;
+            location.setX(chest.getX() + x);
+            location.setY(chest.getY() + y);
+            location.setZ(chest.getZ() + z);
+            if (Misc.isBuildProtected(location, arena)) continue;
+            allowed[size++] = block;
+        }
+        return Arrays.copyOf(allowed, size);
+    }
+}
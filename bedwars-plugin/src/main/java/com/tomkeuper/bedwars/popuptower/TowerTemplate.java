@@ -0,0 +1,146 @@
+package com.tomkeuper.bedwars.popuptower;
+
+import com.tomkeuper.bedwars.BedWars;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pop-up tower shape loaded from the shop configuration.
+ * The shape is written facing east, as offsets from the placed block, and parsed once into
+ * packed offsets for each of the four directions.
+ * <p>
+ * Each configuration line holds one or more blocks separated by {@code ;}.
+ * A block is {@code x, y, z}, followed by {@code , ladder} for ladders.
+ */
+public class TowerTemplate {
+
+    private static final int LADDER = 1 << 30;
+
+    private final int[][] rotations = new int[Direction.values().length][];
+
+    private TowerTemplate(List<int[]> blocks) {
+        for (Direction direction : Direction.values()) {
+            int[] packed = new int[blocks.size()];
+            for (int i = 0; i < packed.length; i++) {
+                int[] block = blocks.get(i);
+                packed[i] = pack(direction.rotateX(block[0], block[2]), block[1], direction.rotateZ(block[0], block[2]), block[3] == 1);
+            }
+            rotations[direction.ordinal()] = packed;
+        }
+    }
+
+    /**
+     * Parse a tower shape. Invalid blocks are logged and skipped.
+     *
+     * @param lines configuration lines, see the class description.
+     */
+    public static TowerTemplate load(List<String> lines) {
+        List<int[]> blocks = new ArrayList<>();
+        for (String line : lines) {
+            for (String block : line.split(";")) {
+                if (block.trim().isEmpty()) continue;
+                String[] values = block.split(",");
+                try {
+                    boolean ladder = values.length == 4 && values[3].trim().equalsIgnoreCase("ladder");
+                    if (values.length != 3 && !ladder) {
+                        throw new IllegalArgumentException();
+                    }
+                    blocks.add(new int[]{Integer.parseInt(values[0].trim()), Integer.parseInt(values[1].trim()),
+                            Integer.parseInt(values[2].trim()), ladder ? 1 : 0});
+                } catch (IllegalArgumentException e) {
+                    BedWars.plugin.getLogger().severe("Invalid pop-up tower block: " + block.trim());
+                }
+            }
+        }
+        return new TowerTemplate(blocks);
+    }
+
+    /**
+     * Get the packed blocks for a direction, in placing order.
+     */
+    public int[] getBlocks(Direction direction) {
+        return rotations[direction.ordinal()];
+    }
+
+    private static int pack(int x, int y, int z, boolean ladder) {
+        return ((x & 0x3FF) << 20) | ((y & 0x3FF) << 10) | (z & 0x3FF) | (ladder ? LADDER : 0);
+    }
+
+    public static int getX(int packed) {
+        return (packed << 2) >> 22;
+    }
+
+    public static int getY(int packed) {
+        return (packed << 12) >> 22;
+    }
+
+    public static int getZ(int packed) {
+        return (packed << 22) >> 22;
+    }
+
+    public static boolean isLadder(int packed) {
+        return (packed & LADDER) != 0;
+    }
+
+    public enum Direction {
+        EAST(5), NORTH(2), SOUTH(3), WEST(4);
+
+        private final int ladderData;
+
+        Direction(int ladderData) {
+            this.ladderData = ladderData;
+        }
+
+        /**
+         * Legacy ladder data facing this direction.
+         */
+        public int getLadderData() {
+            return ladderData;
+        }
+
+        private int rotateX(int x, int z) {
+            switch (this) {
+                case NORTH:
+                    return z;
+                case SOUTH:
+                    return -z;
+                case WEST:
+                    return -x;
+                default:
+                    return x;
+            }
+        }
+
+        private int rotateZ(int x, int z) {
+            switch (this) {
+                case NORTH:
+                    return -x;
+                case SOUTH:
+                    return x;
+                case WEST:
+                    return -z;
+                default:
+                    return z;
+            }
+        }
+
+        /**
+         * Get the direction a player is looking at.
+         */
+        public static Direction fromYaw(float yaw) {
+            double rotation = (yaw - 90.0F) % 360.0F;
+            if (rotation < 0.0D) {
+                rotation += 360.0D;
+            }
+            if (45.0D <= rotation && rotation < 135.0D) {
+                return SOUTH;
+            } else if (225.0D <= rotation && rotation < 315.0D) {
+                return NORTH;
+            } else if (135.0D <= rotation && rotation < 225.0D) {
+                return WEST;
+            }
+            return EAST;
+        }
+    }
+}
@@ -27,11 +27,10 @@ import com.tomkeuper.bedwars.api.shop.IShopCache;
 import com.tomkeuper.bedwars.api.shop.IShopCategory;
 import com.tomkeuper.bedwars.arena.Arena;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ShopCache implements IShopCache {
     public ShopCache() {
@@ -39,17 +38,19 @@ public class ShopCache implements IShopCache {
     }
 
     private UUID player;
-    private List<CachedItem> cachedItems = new LinkedList<>();
+    private List<CachedItem> cachedItems = new ArrayList<>();
+    // cached items by content identifier
+    private HashMap<String, CachedItem> cachedByIdentifier = new HashMap<>();
     private int selectedCategory;
     private HashMap<IShopCategory, Byte> categoryWeight = new HashMap<>();
 
-    private static List<ShopCache> shopCaches = new ArrayList<>();
+    private static final Map<UUID, ShopCache> shopCaches = new ConcurrentHashMap<>();
     private static ShopCache instance;
 
     public ShopCache(UUID player) {
         this.player = player;
         this.selectedCategory = ShopManager.shop.getQuickBuyButton().getSlot();
-        shopCaches.add(this);
+        shopCaches.put(player, this);
     }
 
     public UUID getPlayer() {
@@ -74,19 +75,17 @@ public class ShopCache implements IShopCache {
 
     @Override
     public ShopCache getShopCache(UUID player) {
-        for (ShopCache sc : new ArrayList<>(shopCaches)) {
-            if (sc.player.equals(player)) return sc;
-        }
-        return null;
+        return player == null ? null : shopCaches.get(player);
     }
 
     /**
      * Destroy data
      */
     public void destroy() {
-        shopCaches.remove(this);
+        shopCaches.remove(player, this);
         cachedItems.clear();
         cachedItems = null;
+        cachedByIdentifier = null;
         categoryWeight = null;
     }
 
@@ -110,7 +109,7 @@ public class ShopCache implements IShopCache {
 
         public CachedItem(ICategoryContent cc) {
             this.cc = cc;
-            cachedItems.add(this);
+            addCachedItem(this);
             BedWars.debug("New Cached item " + cc.getIdentifier() + " for player " + player);
         }
 
@@ -139,11 +138,10 @@ public class ShopCache implements IShopCache {
         public void upgrade(int slot) {
             tier++;
             Player p = Bukkit.getPlayer(player);
-            for (ItemStack i : p.getInventory().getContents()) {
-                if (i == null) continue;
-                if (i.getType() == Material.AIR) continue;
-                if (BedWars.nms.getShopUpgradeIdentifier(i).equals(cc.getIdentifier())) {
-                    p.getInventory().remove(i);
+            String[] identifiers = BedWars.nms.scanInventory(p.getInventory());
+            for (int i = 0; i < identifiers.length; i++) {
+                if (cc.getIdentifier().equals(identifiers[i])) {
+                    p.getInventory().setItem(i, null);
                 }
             }
             updateItem(slot, p);
@@ -165,10 +163,7 @@ public class ShopCache implements IShopCache {
      */
     @Override
     public ICachedItem getCachedItem(String identifier) {
-        for (CachedItem ci : cachedItems) {
-            if (ci.getCc().getIdentifier().equals(identifier)) return ci;
-        }
-        return null;
+        return cachedByIdentifier.get(identifier);
     }
 
     /**
@@ -176,18 +171,21 @@ public class ShopCache implements IShopCache {
      */
     @Override
     public boolean hasCachedItem(ICategoryContent cc) {
-        for (CachedItem ci : cachedItems) {
-            if (ci.getCc() == cc) return true;
-        }
-        return false;
+        return getCachedItem(cc) != null;
     }
 
     @Override
     public ICachedItem getCachedItem(ICategoryContent cc) {
-        for (CachedItem ci : cachedItems) {
-            if (ci.getCc() == cc) return ci;
-        }
-        return null;
+        CachedItem ci = cachedByIdentifier.get(cc.getIdentifier());
+        return ci != null && ci.getCc() == cc ? ci : null;
+    }
+
+    /**
+     * Add a cached item, for example the permanents kept from a previous cache on re-join.
+     */
+    public void addCachedItem(CachedItem ci) {
+        cachedItems.add(ci);
+        cachedByIdentifier.putIfAbsent(ci.getCc().getIdentifier(), ci);
     }
 
     /**
@@ -238,8 +236,11 @@ public class ShopCache implements IShopCache {
         return ci;
     }
 
+    /**
+     * Use {@link #addCachedItem(CachedItem)} to add items.
+     */
     public List<CachedItem> getCachedItems() {
-        return cachedItems;
+        return Collections.unmodifiableList(cachedItems);
     }
 
     public static ShopCache getInstance() {
@@ -28,6 +28,7 @@ import com.tomkeuper.bedwars.api.shop.IShopManager;
 import com.tomkeuper.bedwars.shop.listeners.*;
 import com.tomkeuper.bedwars.shop.main.QuickBuyButton;
 import com.tomkeuper.bedwars.shop.main.ShopCategory;
+import com.tomkeuper.bedwars.popuptower.TowerTemplate;
 import com.tomkeuper.bedwars.shop.main.ShopIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -37,10 +38,13 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.PluginManager;
 
+import java.util.Arrays;
+
 @SuppressWarnings("WeakerAccess")
 public class ShopManager extends ConfigManager implements IShopManager {
 
     public static ShopIndex shop;
+    private TowerTemplate towerTemplate;
 
     public ShopManager() {
         super(BedWars.plugin, "default-shop", BedWars.plugin.getDataFolder().getPath() + "/Shops");
@@ -91,6 +95,22 @@ public class ShopManager extends ConfigManager implements IShopManager {
 
         getYml().addDefault(ConfigPath.SHOP_SPECIAL_TOWER_ENABLE, true);
         getYml().addDefault(ConfigPath.SHOP_SPECIAL_TOWER_MATERIAL, BedWars.getForCurrentVersion("CHEST", "CHEST", "CHEST"));
+        // facing east, relative to the placed block: "x, y, z" or "x, y, z, ladder", separated by ";"
+        getYml().addDefault(ConfigPath.SHOP_SPECIAL_TOWER_STRUCTURE, Arrays.asList(
+                "2, 0, -1; 1, 0, -2; 0, 0, -2; -1, 0, -1; -1, 0, 0; -1, 0, 1; 0, 0, 2; 1, 0, 2",
+                "2, 0, 1; 0, 0, 0, ladder; 2, 1, -1; 1, 1, -2; 0, 1, -2; -1, 1, -1; -1, 1, 0; -1, 1, 1",
+                "0, 1, 2; 1, 1, 2; 2, 1, 1; 0, 1, 0, ladder; 2, 2, -1; 1, 2, -2; 0, 2, -2; -1, 2, -1",
+                "-1, 2, 0; -1, 2, 1; 0, 2, 2; 1, 2, 2; 2, 2, 1; 0, 2, 0, ladder; 2, 3, 0; 2, 3, -1",
+                "1, 3, -2; 0, 3, -2; -1, 3, -1; -1, 3, 0; -1, 3, 1; 0, 3, 2; 1, 3, 2; 2, 3, 1",
+                "0, 3, 0, ladder; 2, 4, 0; 2, 4, -1; 1, 4, -2; 0, 4, -2; -1, 4, -1; -1, 4, 0; -1, 4, 1",
+                "0, 4, 2; 1, 4, 2; 2, 4, 1; 0, 4, 0, ladder; -1, 5, -2; 0, 5, -2; 1, 5, -2; 2, 5, -2",
+                "-1, 5, -1; 0, 5, -1; 1, 5, -1; 2, 5, -1; -1, 5, 0; 1, 5, 0; 2, 5, 0; -1, 5, 1",
+                "0, 5, 0, ladder; 0, 5, 1; 1, 5, 1; 2, 5, 1; -1, 5, 2; 0, 5, 2; 1, 5, 2; 2, 5, 2",
+                "2, 5, -3; 2, 6, -3; 2, 7, -3; 1, 6, -3; 0, 6, -3; -1, 5, -3; -1, 6, -3; -1, 7, -3",
+                "-2, 5, -2; -2, 6, -2; -2, 7, -2; -2, 6, -1; -2, 5, 0; -2, 6, 0; -2, 7, 0; -2, 6, 1",
+                "-2, 5, 2; -2, 6, 2; -2, 7, 2; 2, 5, 3; 2, 6, 3; 2, 7, 3; 1, 6, 3; 0, 6, 3",
+                "-1, 5, 3; -1, 6, 3; -1, 7, 3; 3, 5, -2; 3, 6, -2; 3, 7, -2; 3, 6, -1; 3, 5, 0",
+                "3, 6, 0; 3, 7, 0; 3, 6, 1; 3, 5, 2; 3, 6, 2; 3, 7, 2"));
 
         if (isFirstTime()) {
             //quick buy defaults
@@ -410,6 +430,15 @@ public class ShopManager extends ConfigManager implements IShopManager {
             ShopCategory sc = new ShopCategory(s, getYml(), "default-" + s); // Identify shop with default name + shop name
             if (sc.isLoaded()) shop.addShopCategory(sc);
         }
+
+        towerTemplate = TowerTemplate.load(getYml().getStringList(ConfigPath.SHOP_SPECIAL_TOWER_STRUCTURE));
+    }
+
+    /**
+     * Get the pop-up tower shape.
+     */
+    public TowerTemplate getTowerTemplate() {
+        return towerTemplate;
     }
 
     /**
@@ -548,5 +577,6 @@ public class ShopManager extends ConfigManager implements IShopManager {
         pm.registerEvents(new ShopOpenListener(), BedWars.plugin);
         pm.registerEvents(new PlayerDropListener(), BedWars.plugin);
         pm.registerEvents(new SpecialsListener(), BedWars.plugin);
+        pm.registerEvents(new CurrencyLedgerListener(), BedWars.plugin);
     }
 }
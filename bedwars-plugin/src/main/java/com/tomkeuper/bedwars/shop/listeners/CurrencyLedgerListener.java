@@ -0,0 +1,60 @@
+package com.tomkeuper.bedwars.shop.listeners;
+
+import com.tomkeuper.bedwars.api.events.player.PlayerLeaveArenaEvent;
+import com.tomkeuper.bedwars.shop.main.CurrencyLedger;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerPickupItemEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Marks currency ledgers dirty when a player's inventory can change.
+ * Cancelled events are included: some pickups and drops are cancelled by the drop handlers
+ * which then change the inventory themselves.
+ */
+public class CurrencyLedgerListener implements Listener {
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onClick(InventoryClickEvent e) {
+        if (!(e.getWhoClicked() instanceof Player)) return;
+        // shop purchases are handled later in this event and must see the current inventory
+        CurrencyLedger.invalidateAfterEvent((Player) e.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDrag(InventoryDragEvent e) {
+        if (!(e.getWhoClicked() instanceof Player)) return;
+        CurrencyLedger.invalidateAfterEvent((Player) e.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPickup(PlayerPickupItemEvent e) {
+        CurrencyLedger.invalidateAfterEvent(e.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDrop(PlayerDropItemEvent e) {
+        CurrencyLedger.invalidateAfterEvent(e.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent e) {
+        CurrencyLedger.invalidateAfterEvent(e.getEntity());
+    }
+
+    @EventHandler
+    public void onArenaLeave(PlayerLeaveArenaEvent e) {
+        CurrencyLedger.remove(e.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onServerLeave(PlayerQuitEvent e) {
+        CurrencyLedger.remove(e.getPlayer().getUniqueId());
+    }
+}
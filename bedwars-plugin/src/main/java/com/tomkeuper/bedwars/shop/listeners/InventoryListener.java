@@ -63,14 +63,14 @@ public class InventoryListener implements Listener {
         if (cache == null) return;
         if (shopCache == null) return;
 
-        if(ShopIndex.getIndexViewers().contains(p.getUniqueId()) || ShopCategory.getInstance().getCategoryViewers().contains(p.getUniqueId())) {
+        if(ShopIndex.isIndexViewer(p.getUniqueId()) || ShopCategory.getInstance().getCategoryViewers().contains(p.getUniqueId())) {
             if (e.getClickedInventory() != null && e.getClickedInventory().getType().equals(InventoryType.PLAYER)) {
                 e.setCancelled(true);
                 return;
             }
         }
 
-        if (ShopIndex.getIndexViewers().contains(p.getUniqueId())) {
+        if (ShopIndex.isIndexViewer(p.getUniqueId())) {
             e.setCancelled(true);
 
             // Check shop overrides categories (Will return if a shop has been found)
@@ -92,6 +92,21 @@ public class InventoryListener implements Listener {
                     return;
                 }
             }
+            if (cache instanceof PlayerQuickBuyCache) {
+                IQuickBuyElement element = ((PlayerQuickBuyCache) cache).getElement(e.getSlot());
+                if (element == null || element.getCategoryContent() == null) return;
+                if (e.getAction() == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
+                    cache.setElement(element.getSlot(), (ICategoryContent) null);
+                    p.closeInventory();
+                    return;
+                }
+                // the default content may be replaced by the arena group shop
+                ICategoryContent cc = ShopManager.shop.getQuickBuyContent(a.getGroup(), element.getCategoryContent());
+                if (cc != null) {
+                    cc.execute(p, shopCache, element.getSlot());
+                }
+                return;
+            }
             for (IQuickBuyElement element : cache.getElements()) {
                 if (element.getSlot() == e.getSlot()) {
                     if (e.getAction() == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
@@ -29,8 +29,8 @@ import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import com.tomkeuper.bedwars.api.events.shop.ShopBuyEvent;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
+import com.tomkeuper.bedwars.api.shop.ICachedItem;
 import com.tomkeuper.bedwars.api.shop.IPlayerQuickBuyCache;
-import com.tomkeuper.bedwars.api.shop.IQuickBuyElement;
 import com.tomkeuper.bedwars.api.shop.IShopCache;
 import com.tomkeuper.bedwars.api.shop.IShopCategory;
 import com.tomkeuper.bedwars.arena.Arena;
@@ -44,8 +44,10 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 import static com.tomkeuper.bedwars.api.language.Language.getMsg;
@@ -63,6 +65,8 @@ public class CategoryContent implements ICategoryContent {
     private boolean permanent = false, downgradable = false, unbreakable = false;
     private byte weight = 0;
     private IShopCategory father;
+    // rendered shop items by tier index, see getItemStack(Player, IShopCache, CurrencyLedger)
+    private final HashMap<Integer, RenderedTier> rendered = new HashMap<>();
 
     /**
      * Load a new category
@@ -258,61 +262,90 @@ public class CategoryContent implements ICategoryContent {
 
     @Override
     public ItemStack getItemStack(Player player, IShopCache shopCache) {
+        return getItemStack(player, shopCache, null).clone();
+    }
+
+    /**
+     * Get the shop item of this content for a player.
+     * Items are rendered once per language, tier, affordability and quick buy state.
+     * The returned item is shared, clone it before changing it.
+     *
+     * @param ledger the player's currency ledger, looked up when null.
+     */
+    public ItemStack getItemStack(Player player, IShopCache shopCache, @Nullable CurrencyLedger ledger) {
         IContentTier ct;
-        if (shopCache.getContentTier(identifier) == contentTiers.size()) {
-            ct = contentTiers.get(contentTiers.size() - 1);
+        ICachedItem cachedItem = shopCache.getCachedItem(this);
+        int contentTier = shopCache.getContentTier(identifier);
+        int tierIndex;
+        if (contentTier == contentTiers.size()) {
+            tierIndex = contentTiers.size() - 1;
         } else {
-            if (shopCache.hasCachedItem(this)) {
-                ct = contentTiers.get(shopCache.getContentTier(identifier));
+            if (cachedItem != null) {
+                tierIndex = contentTier;
             } else {
-                ct = contentTiers.get(shopCache.getContentTier(identifier) - 1);
+                tierIndex = contentTier - 1;
             }
         }
+        ct = contentTiers.get(tierIndex);
+
+        int money = (ledger == null ? CurrencyLedger.get(player) : ledger).getBalance(player, ct.getCurrency());
+        boolean canAfford = money >= ct.getPrice();
+        IPlayerQuickBuyCache qbc = PlayerQuickBuyCache.getInstance().getQuickBuyCache(player.getUniqueId());
+        // 0 add to quick buy, 1 remove from quick buy, 2 hidden
+        int quickState = qbc != null && hasQuick(qbc) ? ShopIndex.isIndexViewer(player.getUniqueId()) ? 1 : 2 : 0;
+        boolean maxed = isPermanent() && cachedItem != null && cachedItem.getTier() == getContentTiers().size();
+
+        Language language = Language.getPlayerLanguage(player);
+        // tiers can be replaced or changed by addons, the items of a changed tier are rendered again
+        RenderedTier renderedTier = rendered.get(tierIndex);
+        if (renderedTier == null || !renderedTier.matches(ct)) {
+            renderedTier = new RenderedTier(ct);
+            rendered.put(tierIndex, renderedTier);
+        }
+        String key = language.getIso() + ":" + canAfford + ":" + quickState + ":" + maxed;
+        ItemStack item = renderedTier.items.get(key);
+        if (item == null) {
+            item = render(language, ct, canAfford, quickState, maxed);
+            renderedTier.items.put(key, item);
+        }
+        return item;
+    }
 
-        ItemStack i = ct.getItemStack();
+    private ItemStack render(Language language, IContentTier ct, boolean canAfford, int quickState, boolean maxed) {
+        ItemStack i = ct.getItemStack().clone();
         ItemMeta im = i.getItemMeta();
 
         if (im != null) {
-            im = i.getItemMeta().clone();
-            boolean canAfford = calculateMoney(player, ct.getCurrency()) >= ct.getPrice();
-            IPlayerQuickBuyCache qbc = PlayerQuickBuyCache.getInstance().getQuickBuyCache(player.getUniqueId());
-            boolean hasQuick = qbc != null && hasQuick(qbc);
-
-            String color = getMsg(player, canAfford ? Messages.SHOP_CAN_BUY_COLOR : Messages.SHOP_CANT_BUY_COLOR);
-            String translatedCurrency = getMsg(player, getCurrencyMsgPath(ct));
+            String color = language.m(canAfford ? Messages.SHOP_CAN_BUY_COLOR : Messages.SHOP_CANT_BUY_COLOR);
+            String translatedCurrency = language.m(getCurrencyMsgPath(ct));
             ChatColor cColor = getCurrencyColor(ct.getCurrency());
 
             int tierI = ct.getValue();
             String tier = getRomanNumber(tierI);
             String buyStatus;
 
-            if (isPermanent() && shopCache.hasCachedItem(this) && shopCache.getCachedItem(this).getTier() == getContentTiers().size()) {
+            if (maxed) {
                 if (!(BedWars.nms.isArmor(i))){
-                    buyStatus = getMsg(player, Messages.SHOP_LORE_STATUS_MAXED);  //ARMOR
+                    buyStatus = language.m(Messages.SHOP_LORE_STATUS_MAXED);  //ARMOR
                 }else {
-                    buyStatus = getMsg(player, Messages.SHOP_LORE_STATUS_ARMOR);
+                    buyStatus = language.m(Messages.SHOP_LORE_STATUS_ARMOR);
                 }
             } else if (!canAfford) {
-                buyStatus = getMsg(player, Messages.SHOP_LORE_STATUS_CANT_AFFORD).replace("%bw_currency%", translatedCurrency);
+                buyStatus = language.m(Messages.SHOP_LORE_STATUS_CANT_AFFORD).replace("%bw_currency%", translatedCurrency);
             } else {
-                buyStatus = getMsg(player, Messages.SHOP_LORE_STATUS_CAN_BUY);
+                buyStatus = language.m(Messages.SHOP_LORE_STATUS_CAN_BUY);
             }
 
 
-            im.setDisplayName(getMsg(player, itemNamePath).replace("%bw_color%", color).replace("%bw_tier%", tier));
+            im.setDisplayName(language.m(itemNamePath).replace("%bw_color%", color).replace("%bw_tier%", tier));
 
             List<String> lore = new ArrayList<>();
-            for (String s : Language.getList(player, itemLorePath)) {
+            for (String s : language.l(itemLorePath)) {
                 if (s.contains("%bw_quick_buy%")) {
-                    if (hasQuick) {
-                        if (ShopIndex.getIndexViewers().contains(player.getUniqueId())) {
-                            s = getMsg(player, Messages.SHOP_LORE_QUICK_REMOVE);
-                        } else {
-                            continue;
-                        }
-                    } else {
-                        s = getMsg(player, Messages.SHOP_LORE_QUICK_ADD);
+                    if (quickState == 2) {
+                        continue;
                     }
+                    s = language.m(quickState == 1 ? Messages.SHOP_LORE_QUICK_REMOVE : Messages.SHOP_LORE_QUICK_ADD);
                 }
                 s = s.replace("%bw_tier%", tier).replace("%bw_color%", color).replace("%bw_cost%", cColor + String.valueOf(ct.getPrice()))
                         .replace("%bw_currency%", cColor + translatedCurrency).replace("%bw_buy_status%", buyStatus);
@@ -326,26 +359,14 @@ public class CategoryContent implements ICategoryContent {
     }
 
     public boolean hasQuick(IPlayerQuickBuyCache c) {
-        for (IQuickBuyElement q : c.getElements()) {
-            if (q.getCategoryContent() == this) return true;
-        }
-        return false;
+        return c.hasCategoryContent(this);
     }
 
     /**
      * Get player's money amount
      */
     public static int calculateMoney(Player player, Material currency) {
-        if (currency == Material.AIR) {
-            return (int) BedWars.getEconomy().getMoney(player);
-        }
-
-        int amount = 0;
-        for (ItemStack is : player.getInventory().getContents()) {
-            if (is == null) continue;
-            if (is.getType() == currency) amount += is.getAmount();
-        }
-        return amount;
+        return CurrencyLedger.get(player).getBalance(player, currency);
     }
 
     /**
@@ -464,20 +485,16 @@ public class CategoryContent implements ICategoryContent {
 
         int cost = amount;
         for (ItemStack i : player.getInventory().getContents()) {
+            if (cost == 0) break;
             if (i == null) continue;
             if (i.getType() == currency) {
-                if (i.getAmount() < cost) {
-                    cost -= i.getAmount();
-                    BedWars.nms.minusAmount(player, i, i.getAmount());
-                    player.updateInventory();
-                } else {
-                    BedWars.nms.minusAmount(player, i, cost);
-                    player.updateInventory();
-                    break;
-                }
+                int taken = Math.min(i.getAmount(), cost);
+                BedWars.nms.minusAmount(player, i, taken);
+                cost -= taken;
             }
         }
-
+        player.updateInventory();
+        CurrencyLedger.get(player).withdraw(currency, amount - cost);
     }
 
     public void setLoaded(boolean loaded) {
@@ -514,4 +531,28 @@ public class CategoryContent implements ICategoryContent {
     public void setCategoryIdentifier(String categoryIdentifier) {
         this.categoryIdentifier = categoryIdentifier;
     }
+
+    /**
+     * Items rendered for a tier, valid while the tier is not replaced or changed.
+     */
+    private static final class RenderedTier {
+        private final IContentTier tier;
+        private final int value, price;
+        private final Material currency;
+        private final ItemStack itemStack;
+        private final HashMap<String, ItemStack> items = new HashMap<>();
+
+        private RenderedTier(IContentTier tier) {
+            this.tier = tier;
+            this.value = tier.getValue();
+            this.price = tier.getPrice();
+            this.currency = tier.getCurrency();
+            this.itemStack = tier.getItemStack();
+        }
+
+        private boolean matches(IContentTier ct) {
+            return tier == ct && value == ct.getValue() && price == ct.getPrice() && currency == ct.getCurrency()
+                    && itemStack == ct.getItemStack();
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package com.tomkeuper.bedwars.shop.main;
+
+import com.tomkeuper.bedwars.BedWars;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.UUID;
+
+/**
+ * Currency balances of a player.
+ * The inventory is scanned again only after it was marked dirty by an inventory event,
+ * so a shop click or render asks for balances without scanning the inventory for every slot.
+ * Withdrawals made through {@link CategoryContent#takeMoney(Player, Material, int)} update the ledger in place.
+ * <p>
+ * Vault money is not cached.
+ */
+public class CurrencyLedger {
+
+    private static final HashMap<UUID, CurrencyLedger> ledgers = new HashMap<>();
+    private static final HashSet<UUID> pending = new HashSet<>();
+
+    private static final int IRON = 0, GOLD = 1, EMERALD = 2, DIAMOND = 3;
+
+    private final int[] balances = new int[4];
+    private boolean dirty = true;
+    private int revision = 0;
+
+    private CurrencyLedger() {
+    }
+
+    /**
+     * Get a player's ledger. Create it if not found.
+     */
+    public static CurrencyLedger get(Player player) {
+        return ledgers.computeIfAbsent(player.getUniqueId(), k -> new CurrencyLedger());
+    }
+
+    /**
+     * Scan the player's inventory again on the next balance request.
+     */
+    public static void invalidate(Player player) {
+        CurrencyLedger ledger = ledgers.get(player.getUniqueId());
+        if (ledger != null) {
+            ledger.dirty = true;
+        }
+    }
+
+    /**
+     * Invalidate a ledger now and again on the next tick.
+     * Inventory events are fired before the inventory is changed.
+     */
+    public static void invalidateAfterEvent(Player player) {
+        CurrencyLedger ledger = ledgers.get(player.getUniqueId());
+        if (ledger == null) return;
+        ledger.dirty = true;
+        if (pending.isEmpty()) {
+            Bukkit.getScheduler().runTask(BedWars.plugin, CurrencyLedger::flush);
+        }
+        pending.add(player.getUniqueId());
+    }
+
+    private static void flush() {
+        for (UUID player : pending) {
+            CurrencyLedger ledger = ledgers.get(player);
+            if (ledger != null) {
+                ledger.dirty = true;
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Forget a player's ledger.
+     */
+    public static void remove(UUID player) {
+        ledgers.remove(player);
+    }
+
+    /**
+     * Get player's money for a currency.
+     * Vault money is requested as {@link Material#AIR}.
+     */
+    public int getBalance(Player player, Material currency) {
+        if (currency == Material.AIR) {
+            return (int) BedWars.getEconomy().getMoney(player);
+        }
+        int index = indexOf(currency);
+        if (index == -1) {
+            return count(player, currency);
+        }
+        if (dirty) {
+            rebuild(player);
+        }
+        return balances[index];
+    }
+
+    /**
+     * Changes every time the cached balances change.
+     */
+    public int getRevision(Player player) {
+        if (dirty) {
+            rebuild(player);
+        }
+        return revision;
+    }
+
+    /**
+     * Record money taken from the player's inventory.
+     */
+    void withdraw(Material currency, int amount) {
+        int index = indexOf(currency);
+        if (index == -1 || amount == 0 || dirty) return;
+        balances[index] = Math.max(0, balances[index] - amount);
+        revision++;
+    }
+
+    private void rebuild(Player player) {
+        int iron = 0, gold = 0, emerald = 0, diamond = 0;
+        for (ItemStack is : player.getInventory().getContents()) {
+            if (is == null) continue;
+            switch (indexOf(is.getType())) {
+                case IRON:
+                    iron += is.getAmount();
+                    break;
+                case GOLD:
+                    gold += is.getAmount();
+                    break;
+                case EMERALD:
+                    emerald += is.getAmount();
+                    break;
+                case DIAMOND:
+                    diamond += is.getAmount();
+                    break;
+            }
+        }
+        dirty = false;
+        if (balances[IRON] == iron && balances[GOLD] == gold && balances[EMERALD] == emerald && balances[DIAMOND] == diamond) {
+            return;
+        }
+        balances[IRON] = iron;
+        balances[GOLD] = gold;
+        balances[EMERALD] = emerald;
+        balances[DIAMOND] = diamond;
+        revision++;
+    }
+
+    private static int count(Player player, Material currency) {
+        int amount = 0;
+        for (ItemStack is : player.getInventory().getContents()) {
+            if (is == null) continue;
+            if (is.getType() == currency) amount += is.getAmount();
+        }
+        return amount;
+    }
+
+    private static int indexOf(Material material) {
+        switch (material) {
+            case IRON_INGOT:
+                return IRON;
+            case GOLD_INGOT:
+                return GOLD;
+            case EMERALD:
+                return EMERALD;
+            case DIAMOND:
+                return DIAMOND;
+            default:
+                return -1;
+        }
+    }
+}
@@ -149,11 +149,13 @@ public class ShopCategory implements IShopCategory {
 
         shopCache.setSelectedCategory(getSlot());
 
+        ShopView view = new ShopView(player, inv, shopCache);
         for (ICategoryContent cc : getCategoryContentList()) {
-            inv.setItem(cc.getSlot(), cc.getItemStack(player, shopCache));
+            view.setItem(player, cc, cc.getSlot());
         }
 
         player.openInventory(inv);
+        ShopView.open(player, view);
         if (!categoryViewers.contains(player.getUniqueId())){
             categoryViewers.add(player.getUniqueId());
         }
@@ -22,6 +22,7 @@ package com.tomkeuper.bedwars.shop.main;
 
 import com.tomkeuper.bedwars.BedWars;
 import com.tomkeuper.bedwars.api.arena.IArena;
+import com.tomkeuper.bedwars.api.arena.shop.ICategoryContent;
 import com.tomkeuper.bedwars.api.events.shop.ShopOpenEvent;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.shop.IPlayerQuickBuyCache;
@@ -29,14 +30,18 @@ import com.tomkeuper.bedwars.api.shop.IShopCategory;
 import com.tomkeuper.bedwars.api.shop.IShopIndex;
 import com.tomkeuper.bedwars.arena.Arena;
 import com.tomkeuper.bedwars.shop.ShopCache;
+import com.tomkeuper.bedwars.shop.quickbuy.PlayerQuickBuyCache;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @SuppressWarnings("WeakerAccess")
@@ -47,6 +52,10 @@ public class ShopIndex implements IShopIndex {
     private List<IShopCategory> categoryList = new ArrayList<>();
     private QuickBuyButton quickBuyButton;
     public ItemStack separatorSelected, separatorStandard;
+    // arena group, default content, content shown in quick buy
+    private final HashMap<String, Map<ICategoryContent, ICategoryContent>> quickBuyOverrides = new HashMap<>();
+    // content shown in quick buy, default content it replaces
+    private final HashMap<ICategoryContent, ICategoryContent> quickBuyDefaults = new HashMap<>();
 
     public static List<UUID> indexViewers = new ArrayList<>();
 
@@ -107,9 +116,15 @@ public class ShopIndex implements IShopIndex {
 
         ShopCache playerShopCache = ShopCache.getInstance().getShopCache(player.getUniqueId());
         playerShopCache.setSelectedCategory(getQuickBuyButton().getSlot());
-        quickBuyCache.addInInventory(inv, playerShopCache);
+        ShopView view = new ShopView(player, inv, playerShopCache);
+        if (quickBuyCache instanceof PlayerQuickBuyCache) {
+            ((PlayerQuickBuyCache) quickBuyCache).addInInventory(inv, view);
+        } else {
+            quickBuyCache.addInInventory(inv, playerShopCache);
+        }
 
         player.openInventory(inv);
+        ShopView.open(player, view);
         if (!indexViewers.contains(player.getUniqueId())) {
             indexViewers.add(player.getUniqueId());
         }
@@ -155,9 +170,67 @@ public class ShopIndex implements IShopIndex {
     @Override
     public void addShopCategory(IShopCategory sc) {
         categoryList.add(sc);
+        quickBuyOverrides.clear();
+        quickBuyDefaults.clear();
         BedWars.debug("Adding shop category: " + sc + " at slot " + sc.getSlot());
     }
 
+    /**
+     * Get the content shown in quick buy for a player preference in the given arena group.
+     * A group shop overrides the default category with the same name, so its default contents
+     * are replaced by the group content with the same identifier, or hidden if there is none.
+     * Resolved once per group and again after a category is added.
+     *
+     * @return null if the content is hidden in this group.
+     */
+    @Nullable
+    public ICategoryContent getQuickBuyContent(String group, ICategoryContent cc) {
+        Map<ICategoryContent, ICategoryContent> overrides = quickBuyOverrides.computeIfAbsent(group, this::resolveQuickBuyOverrides);
+        return overrides.containsKey(cc) ? overrides.get(cc) : cc;
+    }
+
+    /**
+     * Get the player preference a group content is shown for in quick buy.
+     * This is the inverse of {@link #getQuickBuyContent(String, ICategoryContent)}.
+     *
+     * @return the given content if it does not replace a default content.
+     */
+    public ICategoryContent getQuickBuyDefault(String group, ICategoryContent cc) {
+        quickBuyOverrides.computeIfAbsent(group, this::resolveQuickBuyOverrides);
+        return quickBuyDefaults.getOrDefault(cc, cc);
+    }
+
+    private Map<ICategoryContent, ICategoryContent> resolveQuickBuyOverrides(String group) {
+        String prefix = group.toLowerCase();
+        Map<ICategoryContent, ICategoryContent> overrides = new HashMap<>();
+        for (IShopCategory override : categoryList) {
+            String overrideName = override.getName().toLowerCase();
+            if (!overrideName.startsWith(prefix)) continue;
+            String categoryName = overrideName.replace(prefix + "-shop-", "");
+
+            for (IShopCategory category : categoryList) {
+                for (ICategoryContent cc : category.getCategoryContentList()) {
+                    String categoryIdentifier = cc.getCategoryIdentifier().toLowerCase();
+                    if (!categoryIdentifier.startsWith("default")) continue;
+                    if (!categoryIdentifier.replace("default-", "").split("\\.")[0].equals(categoryName)) continue;
+
+                    ICategoryContent replacement = null;
+                    for (ICategoryContent overrideContent : override.getCategoryContentList()) {
+                        if (overrideContent.getIdentifier().equals(cc.getIdentifier())) {
+                            replacement = overrideContent;
+                            break;
+                        }
+                    }
+                    overrides.put(cc, replacement);
+                    if (replacement != null) {
+                        quickBuyDefaults.put(replacement, cc);
+                    }
+                }
+            }
+        }
+        return overrides;
+    }
+
     /**
      * Get the inventory name path
      */
@@ -191,4 +264,12 @@ public class ShopIndex implements IShopIndex {
     public static List<UUID> getIndexViewers() {
         return new ArrayList<>(indexViewers);
     }
+
+    /**
+     * Check if a player is looking at the quick buy page.
+     * Unlike {@link #getIndexViewers()} this does not copy the viewers list.
+     */
+    public static boolean isIndexViewer(UUID player) {
+        return indexViewers.contains(player);
+    }
 }
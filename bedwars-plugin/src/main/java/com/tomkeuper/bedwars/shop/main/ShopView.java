@@ -0,0 +1,115 @@
+package com.tomkeuper.bedwars.shop.main;
+
+import com.tomkeuper.bedwars.BedWars;
+import com.tomkeuper.bedwars.api.arena.shop.ICategoryContent;
+import com.tomkeuper.bedwars.api.shop.IShopCache;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Content slots of a shop inventory opened by a player.
+ * Player balances come from the player's {@link CurrencyLedger}. While the shop is open
+ * the ledger revision is checked every tick, and when it changes only the slots whose item changed
+ * (usually affordability) are set again.
+ * Vault money is not part of the ledger, it is read again when the ledger changes and every second.
+ */
+public class ShopView {
+
+    private static final int VAULT_REFRESH_TICKS = 20;
+
+    private static final HashMap<UUID, ShopView> views = new HashMap<>();
+    private static BukkitTask task;
+
+    private final Inventory inventory;
+    private final IShopCache shopCache;
+    private final CurrencyLedger ledger;
+    private int revision;
+    private int vault;
+    private int ticks = 0;
+    private final HashMap<Integer, CategoryContent> contents = new HashMap<>();
+    private final HashMap<Integer, ItemStack> shown = new HashMap<>();
+
+    public ShopView(Player player, Inventory inventory, IShopCache shopCache) {
+        this.inventory = inventory;
+        this.shopCache = shopCache;
+        this.ledger = CurrencyLedger.get(player);
+        this.revision = ledger.getRevision(player);
+        this.vault = ledger.getBalance(player, Material.AIR);
+    }
+
+    /**
+     * Render a content in the given slot and keep track of it.
+     */
+    public void setItem(Player player, ICategoryContent cc, int slot) {
+        if (cc instanceof CategoryContent) {
+            CategoryContent content = (CategoryContent) cc;
+            ItemStack item = content.getItemStack(player, shopCache, ledger);
+            contents.put(slot, content);
+            shown.put(slot, item);
+            inventory.setItem(slot, item);
+        } else {
+            inventory.setItem(slot, cc.getItemStack(player, shopCache));
+        }
+    }
+
+    /**
+     * Start tracking the view. Call after the inventory was opened.
+     */
+    public static void open(Player player, ShopView view) {
+        if (!view.inventory.equals(player.getOpenInventory().getTopInventory())) return;
+        views.put(player.getUniqueId(), view);
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(BedWars.plugin, ShopView::refreshViews, 1L, 1L);
+        }
+    }
+
+    private static void refreshViews() {
+        Iterator<Map.Entry<UUID, ShopView>> iterator = views.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, ShopView> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            ShopView view = entry.getValue();
+            if (player == null || !view.inventory.equals(player.getOpenInventory().getTopInventory())) {
+                iterator.remove();
+                continue;
+            }
+            view.refresh(player);
+        }
+        if (views.isEmpty()) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void refresh(Player player) {
+        int currentRevision = ledger.getRevision(player);
+        boolean pollVault = ++ticks >= VAULT_REFRESH_TICKS;
+        if (currentRevision == revision && !pollVault) return;
+        int currentVault = ledger.getBalance(player, Material.AIR);
+        ticks = 0;
+        if (currentRevision == revision && currentVault == vault) return;
+        revision = currentRevision;
+        vault = currentVault;
+
+        boolean changed = false;
+        for (Map.Entry<Integer, CategoryContent> entry : contents.entrySet()) {
+            ItemStack item = entry.getValue().getItemStack(player, shopCache, ledger);
+            if (shown.get(entry.getKey()) == item) continue;
+            shown.put(entry.getKey(), item);
+            inventory.setItem(entry.getKey(), item);
+            changed = true;
+        }
+        if (changed) {
+            player.updateInventory();
+        }
+    }
+}
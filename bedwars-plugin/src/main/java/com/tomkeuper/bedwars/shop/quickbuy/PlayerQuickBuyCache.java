@@ -24,13 +24,16 @@ import com.tomkeuper.bedwars.BedWars;
 import com.tomkeuper.bedwars.api.arena.IArena;
 import com.tomkeuper.bedwars.api.arena.shop.ICategoryContent;
 import com.tomkeuper.bedwars.api.configuration.ConfigPath;
+import com.tomkeuper.bedwars.api.database.PlayerProfile;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.shop.IPlayerQuickBuyCache;
 import com.tomkeuper.bedwars.api.shop.IQuickBuyElement;
 import com.tomkeuper.bedwars.api.shop.IShopCache;
-import com.tomkeuper.bedwars.api.shop.IShopCategory;
 import com.tomkeuper.bedwars.arena.Arena;
+import com.tomkeuper.bedwars.database.PlayerProfileCache;
+import com.tomkeuper.bedwars.shop.ShopManager;
+import com.tomkeuper.bedwars.shop.main.ShopView;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
@@ -40,25 +43,36 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
 
     private static PlayerQuickBuyCache instance;
     private final List<IQuickBuyElement> elements = new ArrayList<>();
+    // elements by position in quickSlots, and the first slot of each content
+    private final IQuickBuyElement[] slots = new IQuickBuyElement[quickSlots.length];
+    private final HashMap<ICategoryContent, Integer> contentSlots = new HashMap<>();
     private String emptyItemNamePath, emptyItemLorePath;
     private ItemStack emptyItem;
     private UUID player;
     private QuickBuyTask task;
 
     public static int[] quickSlots = new int[]{19, 20, 21, 22, 23, 24, 25, 28, 29, 30, 31, 32, 33, 34, 37, 38, 39, 40, 41, 42, 43};
+    private static final int[] slotPositions = new int[54];
     private static final ConcurrentHashMap<UUID, PlayerQuickBuyCache> quickBuyCaches = new ConcurrentHashMap<>();
     private final HashMap<Integer, String> updateSlots = new HashMap<>();
 
+    static {
+        Arrays.fill(slotPositions, -1);
+        for (int i = 0; i < quickSlots.length; i++) {
+            slotPositions[quickSlots[i]] = i;
+        }
+    }
+
     public PlayerQuickBuyCache(){
         instance = this;
     }
@@ -74,7 +88,14 @@ public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
         }
         this.emptyItemNamePath = Messages.SHOP_QUICK_EMPTY_NAME;
         this.emptyItemLorePath = Messages.SHOP_QUICK_EMPTY_LORE;
-        task = new QuickBuyTask(player.getUniqueId());
+        PlayerProfile profile = PlayerProfileCache.getInstance().takeQuickBuy(this.player);
+        if (profile == null) {
+            task = new QuickBuyTask(player.getUniqueId());
+        } else if (profile.hasQuickBuy()) {
+            QuickBuyTask.applySlots(this, profile.getQuickBuySlots());
+        } else {
+            QuickBuyTask.applyDefaults(this);
+        }
         quickBuyCaches.put(this.player, this);
     }
 
@@ -84,53 +105,39 @@ public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
      */
     @Override
     public void addInInventory(Inventory inv, IShopCache shopCache) {
+        addInInventory(inv, new ShopView(Bukkit.getPlayer(player), inv, shopCache));
+    }
+
+    /**
+     * Add the player's preferences to the given inventory, rendered through a shop view.
+     * Contents overridden by the arena group shop are replaced or hidden.
+     */
+    public void addInInventory(Inventory inv, ShopView view) {
         Player p = Bukkit.getPlayer(player);
         IArena arena = Arena.getArenaByPlayer(p);
 
-        List<IShopCategory> registeredShops = BedWars.getAPI().getShopUtil().getShopManager().getShop().getCategoryList();
-
-        // First, identify and remove categories with overrides
-        List<IQuickBuyElement> elementsToRemove = new ArrayList<>();
-
-        List<IShopCategory> matchingShops = registeredShops.stream()
-                .filter(shopCategory -> shopCategory.getName().toLowerCase().startsWith(arena.getGroup().toLowerCase()))
-                .collect(Collectors.toList());
-
-        for (IQuickBuyElement qbe : elements) {
-            String categoryIdentifier = qbe.getCategoryContent().getCategoryIdentifier().toLowerCase();
-            if (categoryIdentifier.startsWith("default")){
-                for (IShopCategory matchingShop : matchingShops){
-                    String matchingShopName = matchingShop.getName().toLowerCase().replace(arena.getGroup() + "-shop-", "");
-                    String qbeCategoryName = qbe.getCategoryContent().getCategoryIdentifier().toLowerCase().replace("default-","").split("\\.")[0];
-                    if (matchingShopName.equalsIgnoreCase(qbeCategoryName)){
-                        elementsToRemove.add(qbe);
-                    }
-                }
+        ItemStack empty = null;
+        for (int i = 0; i < slots.length; i++) {
+            ICategoryContent categoryContent = slots[i] == null ? null : slots[i].getCategoryContent();
+            if (categoryContent != null && arena != null) {
+                categoryContent = ShopManager.shop.getQuickBuyContent(arena.getGroup(), categoryContent);
             }
-        }
-
-        // Remove categories with overrides
-        elements.removeAll(elementsToRemove);
-
-        // Second, add the remaining categories to the inventory
-        for (IQuickBuyElement qbe : elements) {
-            ICategoryContent categoryContent = qbe.getCategoryContent();
-            inv.setItem(qbe.getSlot(), categoryContent.getItemStack(p, shopCache));
-        }
-
-        if (elements.size() == 21) return;
-
-        ItemStack i = getEmptyItem(p);
-        for (int x : quickSlots) {
-            if (inv.getItem(x) == null) {
-                inv.setItem(x, i);
+            if (categoryContent != null) {
+                view.setItem(p, categoryContent, quickSlots[i]);
+                continue;
+            }
+            if (empty == null) {
+                empty = getEmptyItem(p);
             }
+            inv.setItem(quickSlots[i], empty);
         }
     }
 
     @Override
     public void destroy() {
         elements.clear();
+        Arrays.fill(slots, null);
+        contentSlots.clear();
         if (task != null) {
             task.cancel();
         }
@@ -140,7 +147,7 @@ public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
 
     @Override
     public void setElement(int slot, ICategoryContent cc) {
-        elements.removeIf(q -> q.getSlot() == slot);
+        removeElement(slot);
         String element;
         if (cc == null){
             element = " ";
@@ -158,7 +165,7 @@ public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
     @SuppressWarnings("unused")
     @Override
     public void setElement(int slot, String category) {
-        elements.removeIf(q -> q.getSlot() == slot);
+        removeElement(slot);
         String element;
         if (category == null){
             element = " ";
@@ -173,6 +180,33 @@ public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
         }
     }
 
+    private void removeElement(int slot) {
+        int position = getPosition(slot);
+        if (position == -1) {
+            elements.removeIf(q -> q.getSlot() == slot);
+            return;
+        }
+        IQuickBuyElement previous = slots[position];
+        if (previous == null) return;
+        slots[position] = null;
+        elements.remove(previous);
+
+        ICategoryContent cc = previous.getCategoryContent();
+        if (cc != null && contentSlots.getOrDefault(cc, -1) == slot) {
+            contentSlots.remove(cc);
+            for (IQuickBuyElement q : slots) {
+                if (q != null && q.getCategoryContent() == cc) {
+                    contentSlots.put(cc, q.getSlot());
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int getPosition(int slot) {
+        return slot < 0 || slot >= slotPositions.length ? -1 : slotPositions[slot];
+    }
+
     @NotNull
     private ItemStack getEmptyItem(Player player) {
         ItemStack i = emptyItem.clone();
@@ -186,14 +220,27 @@ public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
     }
 
     /**
-     * Check if as category content at quick buy
+     * Check if as category content at quick buy.
+     * A group content is found if it replaces a default content stored in quick buy.
      */
     @Override
     public boolean hasCategoryContent(ICategoryContent cc) {
-        for (IQuickBuyElement q : getElements()) {
-            if (q.getCategoryContent() == cc) return true;
-        }
-        return false;
+        if (contentSlots.containsKey(cc)) return true;
+        IArena arena = Arena.getArenaByPlayer(Bukkit.getPlayer(player));
+        if (arena == null) return false;
+        ICategoryContent preference = ShopManager.shop.getQuickBuyDefault(arena.getGroup(), cc);
+        return preference != cc && contentSlots.containsKey(preference);
+    }
+
+    /**
+     * Get the element at an inventory slot.
+     *
+     * @return null if the slot is empty or is not a quick buy slot.
+     */
+    @Nullable
+    public IQuickBuyElement getElement(int slot) {
+        int position = getPosition(slot);
+        return position == -1 ? null : slots[position];
     }
 
     /**
@@ -205,6 +252,10 @@ public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
         return quickBuyCaches.getOrDefault(uuid, null);
     }
 
+    /**
+     * Elements should be changed through {@link #setElement(int, ICategoryContent)}
+     * and {@link #addQuickElement(IQuickBuyElement)} so the slot index is kept up to date.
+     */
     @Override
     public List<IQuickBuyElement> getElements() {
         return elements;
@@ -215,6 +266,14 @@ public class PlayerQuickBuyCache implements IPlayerQuickBuyCache {
      */
     @Override
     public void addQuickElement(IQuickBuyElement e) {
+        int position = getPosition(e.getSlot());
+        if (position != -1) {
+            removeElement(e.getSlot());
+            slots[position] = e;
+            if (e.getCategoryContent() != null) {
+                contentSlots.putIfAbsent(e.getCategoryContent(), e.getSlot());
+            }
+        }
         this.elements.add(e);
     }
 
@@ -58,44 +58,59 @@ public class QuickBuyTask extends BukkitRunnable {
             }
 
             if (!BedWars.getRemoteDatabase().hasQuickBuy(uuid)){
-                if (BedWars.shop.getYml().get(ConfigPath.SHOP_QUICK_DEFAULTS_PATH) != null){
-                    for (String s : BedWars.shop.getYml().getConfigurationSection(ConfigPath.SHOP_QUICK_DEFAULTS_PATH).getKeys(false)) {
-                        if (BedWars.shop.getYml().get(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".path") != null) {
-                            if (BedWars.shop.getYml().get(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".slot") == null){
-                                continue;
-                            }
+                applyDefaults(cache);
+            } else {
+                // slot, identifier
+                applySlots(cache, BedWars.getRemoteDatabase().getQuickBuySlots(uuid, PlayerQuickBuyCache.quickSlots));
+            }
+        }
+    }
 
-                            try {
-                                Integer.valueOf(BedWars.shop.getYml().getString(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".slot"));
-                            } catch (Exception ex){
-                                BedWars.debug(BedWars.shop.getYml().getString(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".slot") + " must be an integer!");
-                                continue;
-                            }
+    /**
+     * Apply the default quick buy from the shop configuration.
+     */
+    static void applyDefaults(IPlayerQuickBuyCache cache) {
+        if (BedWars.shop.getYml().get(ConfigPath.SHOP_QUICK_DEFAULTS_PATH) != null){
+            for (String s : BedWars.shop.getYml().getConfigurationSection(ConfigPath.SHOP_QUICK_DEFAULTS_PATH).getKeys(false)) {
+                if (BedWars.shop.getYml().get(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".path") != null) {
+                    if (BedWars.shop.getYml().get(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".slot") == null){
+                        continue;
+                    }
 
-                            for (IShopCategory sc : ShopManager.shop.getCategoryList()) {
-                                for (ICategoryContent cc : sc.getCategoryContentList()) {
-                                    if (cc.getIdentifier().equals(BedWars.shop.getYml().getString(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".path"))) {
-                                        cache.setElement(Integer.parseInt(BedWars.shop.getYml().getString(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".slot")), cc);
-                                    }
-                                }
-                            }
+                    try {
+                        Integer.valueOf(BedWars.shop.getYml().getString(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".slot"));
+                    } catch (Exception ex){
+                        BedWars.debug(BedWars.shop.getYml().getString(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".slot") + " must be an integer!");
+                        continue;
+                    }
 
+                    for (IShopCategory sc : ShopManager.shop.getCategoryList()) {
+                        for (ICategoryContent cc : sc.getCategoryContentList()) {
+                            if (cc.getIdentifier().equals(BedWars.shop.getYml().getString(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".path"))) {
+                                cache.setElement(Integer.parseInt(BedWars.shop.getYml().getString(ConfigPath.SHOP_QUICK_DEFAULTS_PATH + "." + s + ".slot")), cc);
+                            }
                         }
                     }
+
                 }
-            } else {
-                // slot, identifier
-                HashMap<Integer, String> items = BedWars.getRemoteDatabase().getQuickBuySlots(uuid, PlayerQuickBuyCache.quickSlots);
-                if (items == null) return;
-                if (items.isEmpty()) return;
-                for (Map.Entry<Integer, String> entry : items.entrySet()) {
-                    if (entry.getValue().isEmpty()) continue;
-                    if (entry.getValue().equals(" ")) continue;
-                    QuickBuyElement e = new QuickBuyElement(entry.getValue(), entry.getKey());
-                    if (e.isLoaded()) {
-                        cache.addQuickElement(e);
-                    }
-                }
+            }
+        }
+    }
+
+    /**
+     * Apply the quick buy saved in the database.
+     *
+     * @param items slot, identifier.
+     */
+    static void applySlots(IPlayerQuickBuyCache cache, HashMap<Integer, String> items) {
+        if (items == null) return;
+        if (items.isEmpty()) return;
+        for (Map.Entry<Integer, String> entry : items.entrySet()) {
+            if (entry.getValue().isEmpty()) continue;
+            if (entry.getValue().equals(" ")) continue;
+            QuickBuyElement e = new QuickBuyElement(entry.getValue(), entry.getKey());
+            if (e.isLoaded()) {
+                cache.addQuickElement(e);
             }
         }
     }
@@ -0,0 +1,286 @@
+package com.tomkeuper.bedwars.sidebar;
+
+import com.tomkeuper.bedwars.api.arena.GameState;
+import com.tomkeuper.bedwars.api.arena.NextEvent;
+import com.tomkeuper.bedwars.api.arena.team.ITeam;
+import com.tomkeuper.bedwars.api.tasks.PlayingTask;
+import com.tomkeuper.bedwars.arena.Arena;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * State of an arena as seen by the scoreboard placeholders.
+ * Captured on the main thread once per tick by {@link BoardManager} and read from the TAB threads.
+ * A new snapshot, with a new version, is only created when something changed, so formatted
+ * placeholder values can be cached on the snapshot itself.
+ */
+public final class ArenaSnapshot {
+
+    private final long version;
+    private final GameState status;
+    private final String displayName;
+    private final String arenaName;
+    private final String group;
+    private final int maxPlayers;
+    private final int playerCount;
+    private final NextEvent nextEvent;
+    private final long nextEventMillis;
+    private final int startingCountdown;
+    private final TeamState[] teams;
+    private final Map<UUID, PlayerState> playerStates;
+
+    // formatted values for this version
+    private final Map<String, String> formatted = new ConcurrentHashMap<>();
+
+    private ArenaSnapshot(long version, Arena arena, TeamState[] teams, Map<UUID, PlayerState> playerStates) {
+        this.version = version;
+        this.status = arena.getStatus();
+        this.displayName = arena.getDisplayName();
+        this.arenaName = arena.getArenaName();
+        this.group = arena.getGroup();
+        this.maxPlayers = arena.getMaxPlayers();
+        this.playerCount = arena.getPlayers().size();
+        this.nextEvent = arena.getNextEvent();
+        this.nextEventMillis = getNextEventMillis(arena);
+        this.startingCountdown = arena.getStartingTask() == null ? -1 : arena.getStartingTask().getCountdown() + 1;
+        this.teams = teams;
+        this.playerStates = playerStates;
+    }
+
+    /**
+     * Capture the current state of an arena.
+     * Must be called from the main thread.
+     *
+     * @param previous last published snapshot of this arena, can be null.
+     * @return the previous snapshot if nothing changed.
+     */
+    static ArenaSnapshot capture(Arena arena, @Nullable ArenaSnapshot previous) {
+        List<ITeam> arenaTeams = arena.getTeams();
+        TeamState[] teams = new TeamState[arenaTeams.size()];
+        for (int i = 0; i < teams.length; i++) {
+            ITeam team = arenaTeams.get(i);
+            teams[i] = new TeamState(team, team.isBedDestroyed(), team.getSize());
+        }
+
+        Map<UUID, PlayerState> playerStates = new HashMap<>();
+        for (Player player : arena.getPlayers()) {
+            playerStates.put(player.getUniqueId(), capturePlayer(arena, arenaTeams, player, false));
+        }
+        for (Player player : arena.getSpectators()) {
+            playerStates.put(player.getUniqueId(), capturePlayer(arena, arenaTeams, player, true));
+        }
+
+        ArenaSnapshot snapshot = new ArenaSnapshot(previous == null ? 0 : previous.version + 1, arena, teams, playerStates);
+        if (previous != null && previous.sameState(snapshot)) {
+            return previous;
+        }
+        return snapshot;
+    }
+
+    private static PlayerState capturePlayer(Arena arena, List<ITeam> teams, Player player, boolean spectator) {
+        return new PlayerState(arena.getPlayerKills(player, false), arena.getPlayerKills(player, true),
+                arena.getPlayerBedsDestroyed(player), arena.getPlayerDeaths(player, false),
+                teams.indexOf(arena.getTeam(player)), spectator);
+    }
+
+    private static long getNextEventMillis(Arena arena) {
+        PlayingTask playingTask = arena.getPlayingTask();
+        switch (arena.getNextEvent()) {
+            case EMERALD_GENERATOR_TIER_II:
+            case EMERALD_GENERATOR_TIER_III:
+                return arena.upgradeEmeraldsCount * 1000L;
+            case DIAMOND_GENERATOR_TIER_II:
+            case DIAMOND_GENERATOR_TIER_III:
+                return arena.upgradeDiamondsCount * 1000L;
+            case GAME_END:
+                return playingTask == null ? 0L : playingTask.getGameEndCountdown() * 1000L;
+            case BEDS_DESTROY:
+                return playingTask == null ? 0L : playingTask.getBedsDestroyCountdown() * 1000L;
+            case ENDER_DRAGON:
+                return playingTask == null ? 0L : playingTask.getDragonSpawnCountdown() * 1000L;
+            default:
+                return 0L;
+        }
+    }
+
+    private boolean sameState(ArenaSnapshot other) {
+        return status == other.status && maxPlayers == other.maxPlayers && playerCount == other.playerCount
+                && nextEvent == other.nextEvent && nextEventMillis == other.nextEventMillis
+                && startingCountdown == other.startingCountdown
+                && Objects.equals(displayName, other.displayName) && Objects.equals(group, other.group)
+                && Arrays.equals(teams, other.teams) && playerStates.equals(other.playerStates);
+    }
+
+    /**
+     * Get a formatted value, computed once per snapshot version.
+     *
+     * @param key    cache key, should contain everything the value depends on except the snapshot.
+     * @param format used on a cache miss.
+     */
+    public String format(String key, Supplier<String> format) {
+        String value = formatted.get(key);
+        if (value == null) {
+            value = format.get();
+            if (value == null) return null;
+            formatted.put(key, value);
+        }
+        return value;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public GameState getStatus() {
+        return status;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getArenaName() {
+        return arenaName;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public NextEvent getNextEvent() {
+        return nextEvent;
+    }
+
+    public long getNextEventMillis() {
+        return nextEventMillis;
+    }
+
+    /**
+     * @return starting countdown as displayed, -1 if the arena is not starting.
+     */
+    public int getStartingCountdown() {
+        return startingCountdown;
+    }
+
+    public int getTeamCount() {
+        return teams.length;
+    }
+
+    /**
+     * @param index team index, starting from 0.
+     * @return null if there is no such team.
+     */
+    public @Nullable TeamState getTeam(int index) {
+        return index < 0 || index >= teams.length ? null : teams[index];
+    }
+
+    /**
+     * @return null if the player was not in the arena when the snapshot was taken.
+     */
+    public @Nullable PlayerState getPlayer(UUID uuid) {
+        return playerStates.get(uuid);
+    }
+
+    public static final class TeamState {
+        private final ITeam team;
+        private final boolean bedDestroyed;
+        private final int size;
+
+        private TeamState(ITeam team, boolean bedDestroyed, int size) {
+            this.team = team;
+            this.bedDestroyed = bedDestroyed;
+            this.size = size;
+        }
+
+        public ITeam getTeam() {
+            return team;
+        }
+
+        public boolean isBedDestroyed() {
+            return bedDestroyed;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TeamState)) return false;
+            TeamState other = (TeamState) o;
+            return team == other.team && bedDestroyed == other.bedDestroyed && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(team), bedDestroyed, size);
+        }
+    }
+
+    public static final class PlayerState {
+        private final int kills, finalKills, bedsDestroyed, deaths;
+        private final int teamIndex;
+        private final boolean spectator;
+
+        private PlayerState(int kills, int finalKills, int bedsDestroyed, int deaths, int teamIndex, boolean spectator) {
+            this.kills = kills;
+            this.finalKills = finalKills;
+            this.bedsDestroyed = bedsDestroyed;
+            this.deaths = deaths;
+            this.teamIndex = teamIndex;
+            this.spectator = spectator;
+        }
+
+        public int getKills() {
+            return kills;
+        }
+
+        public int getFinalKills() {
+            return finalKills;
+        }
+
+        public int getBedsDestroyed() {
+            return bedsDestroyed;
+        }
+
+        public int getDeaths() {
+            return deaths;
+        }
+
+        /**
+         * @return team index in the arena team list, -1 if the player has no team.
+         */
+        public int getTeamIndex() {
+            return teamIndex;
+        }
+
+        public boolean isSpectator() {
+            return spectator;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PlayerState)) return false;
+            PlayerState other = (PlayerState) o;
+            return kills == other.kills && finalKills == other.finalKills && bedsDestroyed == other.bedsDestroyed
+                    && deaths == other.deaths && teamIndex == other.teamIndex && spectator == other.spectator;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kills, finalKills, bedsDestroyed, deaths, teamIndex, spectator);
+        }
+    }
+}
@@ -3,14 +3,13 @@ package com.tomkeuper.bedwars.sidebar;
 import com.tomkeuper.bedwars.BedWars;
 import com.tomkeuper.bedwars.api.arena.GameState;
 import com.tomkeuper.bedwars.api.arena.IArena;
-import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.configuration.ConfigPath;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.server.ServerType;
 import com.tomkeuper.bedwars.api.sidebar.IScoreboardService;
-import com.tomkeuper.bedwars.api.tasks.PlayingTask;
 import com.tomkeuper.bedwars.arena.Arena;
+import com.tomkeuper.bedwars.arena.ArenaRegistry;
 import com.tomkeuper.bedwars.levels.internal.PlayerLevel;
 import me.neznamy.tab.api.TabAPI;
 import me.neznamy.tab.api.TabPlayer;
@@ -30,8 +29,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.text.SimpleDateFormat;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static com.tomkeuper.bedwars.api.language.Language.getMsg;
 
 public class BoardManager implements IScoreboardService {
     private static ScoreboardManager scoreboardManager;
@@ -42,6 +41,8 @@ public class BoardManager implements IScoreboardService {
     private final HashMap<TabPlayer, Integer> tabPlayersPrefix = new HashMap<>();
     private final HashMap<TabPlayer, Integer> tabPlayersSuffix = new HashMap<>();
     private final HashMap<TabPlayer, Integer> tabPlayersTitle = new HashMap<>();
+    private final Map<IArena, ArenaSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, CachedDate> dates = new ConcurrentHashMap<>();
 
     public static boolean init() {
         if (TabAPI.getInstance().getScoreboardManager() == null) return false;
@@ -50,6 +51,7 @@ public class BoardManager implements IScoreboardService {
             instance.registerPlaceholders();
             instance.registerLoadEvent();
             instance.registerLobbyScoreboards();
+            Bukkit.getScheduler().runTaskTimer(BedWars.plugin, instance::publishSnapshots, 1L, 1L);
             Bukkit.getPluginManager().registerEvents(new BoardListener(), BedWars.plugin);
         }
         return instance != null;
@@ -99,16 +101,72 @@ public class BoardManager implements IScoreboardService {
         return lines;
     }
 
-    private SimpleDateFormat getDateFormat(Player player){
-        return new SimpleDateFormat(getMsg(player, Messages.FORMATTING_SCOREBOARD_DATE));
-    }
-
-    private SimpleDateFormat getNextEventDateFormat(Player player){
-        SimpleDateFormat nextEventDateFormat = new SimpleDateFormat(getMsg(player, Messages.FORMATTING_SCOREBOARD_NEXEVENT_TIMER));
+    private SimpleDateFormat getNextEventDateFormat(Language language){
+        SimpleDateFormat nextEventDateFormat = new SimpleDateFormat(language.m(Messages.FORMATTING_SCOREBOARD_NEXEVENT_TIMER));
         nextEventDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
         return nextEventDateFormat;
     }
 
+    /**
+     * Format the current time, cached for the current second.
+     *
+     * @param path date format message path.
+     * @param utc true to format in UTC instead of the server time zone.
+     */
+    private String formatNow(Language language, String path, boolean utc){
+        long second = System.currentTimeMillis() / 1000L;
+        String key = language.getIso() + ":" + path;
+        CachedDate cached = dates.get(key);
+        if (cached == null || cached.second != second) {
+            SimpleDateFormat format = new SimpleDateFormat(language.m(path));
+            if (utc) format.setTimeZone(TimeZone.getTimeZone("UTC"));
+            cached = new CachedDate(second, format.format(new Date(second * 1000L)));
+            dates.put(key, cached);
+        }
+        return cached.value;
+    }
+
+    /**
+     * Capture the state of the loaded arenas for the placeholders.
+     * Runs every tick on the main thread, placeholders never touch the arena directly.
+     */
+    private void publishSnapshots(){
+        List<IArena> arenas = ArenaRegistry.getInstance().getArenas();
+        int captured = 0;
+        for (IArena arena : arenas) {
+            if (!(arena instanceof Arena)) continue;
+            snapshots.put(arena, ArenaSnapshot.capture((Arena) arena, snapshots.get(arena)));
+            captured++;
+        }
+        // every loaded arena has a snapshot, any extra one belongs to a removed arena
+        if (snapshots.size() > captured) {
+            Set<IArena> loaded = new HashSet<>(arenas);
+            snapshots.keySet().removeIf(arena -> !loaded.contains(arena));
+        }
+    }
+
+    /**
+     * @return the last snapshot of the player arena, null if the player is not in an arena.
+     */
+    @Nullable
+    public ArenaSnapshot getSnapshot(Player player){
+        IArena arena = Arena.getArenaByPlayer(player);
+        return null == arena ? null : snapshots.get(arena);
+    }
+
+    @Nullable
+    private ArenaSnapshot.PlayerState getPlayerState(Player player){
+        ArenaSnapshot snapshot = getSnapshot(player);
+        return null == snapshot ? null : snapshot.getPlayer(player.getUniqueId());
+    }
+
+    @Nullable
+    private ArenaSnapshot.TeamState getTeamState(@Nullable ArenaSnapshot snapshot, Player player){
+        if (null == snapshot) return null;
+        ArenaSnapshot.PlayerState state = snapshot.getPlayer(player.getUniqueId());
+        return null == state ? null : snapshot.getTeam(state.getTeamIndex());
+    }
+
     private BoardManager() {
         scoreboardManager = TabAPI.getInstance().getScoreboardManager();
         tabListFormatManager = TabAPI.getInstance().getTabListFormatManager();
@@ -160,29 +218,44 @@ public class BoardManager implements IScoreboardService {
         placeholderManager.registerServerPlaceholder("%bw_server_ip%", placeholderRefresh, () -> BedWars.config.getString(ConfigPath.GENERAL_CONFIG_PLACEHOLDERS_REPLACEMENTS_SERVER_IP));
         placeholderManager.registerServerPlaceholder("%bw_version%", placeholderRefresh, () -> BedWars.plugin.getDescription().getVersion());
         placeholderManager.registerServerPlaceholder("%bw_server_id%", placeholderRefresh, () -> BedWars.config.getString(ConfigPath.GENERAL_CONFIGURATION_BUNGEE_OPTION_SERVER_ID));
-        placeholderManager.registerPlayerPlaceholder("%bw_date%", placeholderRefresh, player -> getDateFormat((Player) player.getPlayer()).format(new Date(System.currentTimeMillis())));
+        placeholderManager.registerPlayerPlaceholder("%bw_date%", placeholderRefresh, player -> formatNow(Language.getPlayerLanguage((Player) player.getPlayer()), Messages.FORMATTING_SCOREBOARD_DATE, false));
         placeholderManager.registerPlayerPlaceholder("%bw_progress%", placeholderRefresh, player -> PlayerLevel.getLevelByPlayer(player.getUniqueId()).getProgress());
         placeholderManager.registerPlayerPlaceholder("%bw_level%", placeholderRefresh, player -> PlayerLevel.getLevelByPlayer(player.getUniqueId()).getLevelName());
         placeholderManager.registerPlayerPlaceholder("%bw_level_unformatted%", placeholderRefresh, player -> PlayerLevel.getLevelByPlayer(player.getUniqueId()).getLevel());
         placeholderManager.registerPlayerPlaceholder("%bw_current_xp%", placeholderRefresh, player -> PlayerLevel.getLevelByPlayer(player.getUniqueId()).getFormattedCurrentXp());
         placeholderManager.registerPlayerPlaceholder("%bw_required_xp%", placeholderRefresh, player -> PlayerLevel.getLevelByPlayer(player.getUniqueId()).getFormattedRequiredXp());
-        placeholderManager.registerPlayerPlaceholder("%bw_map%", placeholderRefresh, player -> Arena.getArenaByPlayer((Player) player.getPlayer()) == null ? "" : Arena.getArenaByPlayer((Player) player.getPlayer()).getDisplayName());
-        placeholderManager.registerPlayerPlaceholder("%bw_map_name%", placeholderRefresh, player -> Arena.getArenaByPlayer((Player) player.getPlayer()) == null ? "" : Arena.getArenaByPlayer((Player) player.getPlayer()).getArenaName());
-        placeholderManager.registerPlayerPlaceholder("%bw_group%", placeholderRefresh, player -> Arena.getArenaByPlayer((Player) player.getPlayer()) == null ? "" : Arena.getArenaByPlayer((Player) player.getPlayer()).getDisplayGroup((Player) player.getPlayer()));
+        placeholderManager.registerPlayerPlaceholder("%bw_map%", placeholderRefresh, player -> {
+            ArenaSnapshot snapshot = getSnapshot((Player) player.getPlayer());
+            return null == snapshot ? "" : snapshot.getDisplayName();
+        });
+        placeholderManager.registerPlayerPlaceholder("%bw_map_name%", placeholderRefresh, player -> {
+            ArenaSnapshot snapshot = getSnapshot((Player) player.getPlayer());
+            return null == snapshot ? "" : snapshot.getArenaName();
+        });
+        placeholderManager.registerPlayerPlaceholder("%bw_group%", placeholderRefresh, player -> {
+            ArenaSnapshot snapshot = getSnapshot((Player) player.getPlayer());
+            if (null == snapshot) return "";
+            Language language = Language.getPlayerLanguage((Player) player.getPlayer());
+            return snapshot.format("group_" + language.getIso(), () -> language.m(Messages.ARENA_DISPLAY_GROUP_PATH + snapshot.getGroup().toLowerCase()));
+        });
         placeholderManager.registerPlayerPlaceholder("%bw_kills%", placeholderRefresh, player -> {
-            if (null != Arena.getArenaByPlayer((Player) player.getPlayer())) return Arena.getArenaByPlayer((Player) player.getPlayer()).getPlayerKills((Player) player.getPlayer(), false);
+            ArenaSnapshot.PlayerState state = getPlayerState((Player) player.getPlayer());
+            if (null != state) return state.getKills();
             return BedWars.getStatsManager().get(player.getUniqueId()).getKills();
         });
         placeholderManager.registerPlayerPlaceholder("%bw_final_kills%", placeholderRefresh, player -> {
-            if (null != Arena.getArenaByPlayer((Player) player.getPlayer())) return Arena.getArenaByPlayer((Player) player.getPlayer()).getPlayerKills((Player) player.getPlayer(), true);
+            ArenaSnapshot.PlayerState state = getPlayerState((Player) player.getPlayer());
+            if (null != state) return state.getFinalKills();
             return BedWars.getStatsManager().get(player.getUniqueId()).getKills();
         });
         placeholderManager.registerPlayerPlaceholder("%bw_beds%", placeholderRefresh, player -> {
-            if (null != Arena.getArenaByPlayer((Player) player.getPlayer())) return Arena.getArenaByPlayer((Player) player.getPlayer()).getPlayerBedsDestroyed((Player) player.getPlayer());
+            ArenaSnapshot.PlayerState state = getPlayerState((Player) player.getPlayer());
+            if (null != state) return state.getBedsDestroyed();
             return BedWars.getStatsManager().get(player.getUniqueId()).getBedsDestroyed();
         });
         placeholderManager.registerPlayerPlaceholder("%bw_deaths%", placeholderRefresh, player -> {
-            if (null != Arena.getArenaByPlayer((Player) player.getPlayer())) return Arena.getArenaByPlayer((Player) player.getPlayer()).getPlayerDeaths((Player) player.getPlayer(), false);
+            ArenaSnapshot.PlayerState state = getPlayerState((Player) player.getPlayer());
+            if (null != state) return state.getDeaths();
             return BedWars.getStatsManager().get(player.getUniqueId()).getDeaths();
         });
         placeholderManager.registerPlayerPlaceholder("%bw_final_deaths%", placeholderRefresh, player -> BedWars.getStatsManager().get(player.getUniqueId()).getFinalDeaths());
@@ -191,35 +264,45 @@ public class BoardManager implements IScoreboardService {
         placeholderManager.registerPlayerPlaceholder("%bw_games_played%", placeholderRefresh, player -> BedWars.getStatsManager().get(player.getUniqueId()).getGamesPlayed());
         placeholderManager.registerPlayerPlaceholder("%bw_next_event%", placeholderRefresh, player -> getNextEventName((Player) player.getPlayer()));
         placeholderManager.registerPlayerPlaceholder("%bw_on%", placeholderRefresh, player -> getOnlinePlayers((Player) player.getPlayer()));
-        placeholderManager.registerPlayerPlaceholder("%bw_max%", placeholderRefresh, player -> Arena.getArenaByPlayer((Player) player.getPlayer()) == null ? "" : Arena.getArenaByPlayer((Player) player.getPlayer()).getMaxPlayers());
+        placeholderManager.registerPlayerPlaceholder("%bw_max%", placeholderRefresh, player -> {
+            ArenaSnapshot snapshot = getSnapshot((Player) player.getPlayer());
+            return null == snapshot ? "" : snapshot.getMaxPlayers();
+        });
         placeholderManager.registerPlayerPlaceholder("%bw_time%", placeholderRefresh, tabPlayer -> {
             Player player = (Player) tabPlayer.getPlayer();
-            Arena arena = (Arena) Arena.getArenaByPlayer(player);
-            if (null == arena) return "";
-            if (arena.getStatus() == GameState.playing || arena.getStatus() == GameState.restarting) {
-                return getNextEventTime(arena, player);
-            } else if (arena.getStatus() == GameState.starting) {
-                if (arena.getStartingTask() != null) {
-                    return arena.getStartingTask().getCountdown()+1;
+            ArenaSnapshot snapshot = getSnapshot(player);
+            if (null == snapshot) return "";
+            Language language = Language.getPlayerLanguage(player);
+            if (snapshot.getStatus() == GameState.playing || snapshot.getStatus() == GameState.restarting) {
+                return snapshot.format("time_" + language.getIso(), () -> getNextEventDateFormat(language).format(new Date(snapshot.getNextEventMillis())));
+            } else if (snapshot.getStatus() == GameState.starting) {
+                if (snapshot.getStartingCountdown() != -1) {
+                    return snapshot.getStartingCountdown();
                 }
             }
-            return getNextEventDateFormat(player).format(new Date(System.currentTimeMillis()));
+            return formatNow(language, Messages.FORMATTING_SCOREBOARD_NEXEVENT_TIMER, true);
         });
 
         placeholderManager.registerPlayerPlaceholder("%bw_team%", placeholderRefresh, tabPlayer -> {
             Player player = (Player) tabPlayer.getPlayer();
-            IArena arena = Arena.getArenaByPlayer(player);
-            return null == arena ? "" : null == arena.getTeam(player) ? "" : arena.getTeam(player).getColor().chat() + arena.getTeam(player).getDisplayName(Language.getPlayerLanguage(player));
+            ArenaSnapshot snapshot = getSnapshot(player);
+            ArenaSnapshot.TeamState team = getTeamState(snapshot, player);
+            if (null == team) return "";
+            Language language = Language.getPlayerLanguage(player);
+            return snapshot.format("team_name_" + team.getTeam().getName() + "_" + language.getIso(), () -> team.getTeam().getColor().chat() + team.getTeam().getDisplayName(language));
         });
         placeholderManager.registerPlayerPlaceholder("%bw_team_letter%", placeholderRefresh, tabPlayer -> {
             Player player = (Player) tabPlayer.getPlayer();
-            IArena arena = Arena.getArenaByPlayer(player);
-            return null == arena ? "" : null == arena.getTeam(player) ? "" :  (arena.getTeam(player).getDisplayName(Language.getPlayerLanguage(player)).substring(0, 1));
+            ArenaSnapshot snapshot = getSnapshot(player);
+            ArenaSnapshot.TeamState team = getTeamState(snapshot, player);
+            if (null == team) return "";
+            Language language = Language.getPlayerLanguage(player);
+            return snapshot.format("team_letter_" + team.getTeam().getName() + "_" + language.getIso(), () -> team.getTeam().getDisplayName(language).substring(0, 1));
         });
         placeholderManager.registerPlayerPlaceholder("%bw_team_color%", placeholderRefresh, tabPlayer -> {
             Player player = (Player) tabPlayer.getPlayer();
-            IArena arena = Arena.getArenaByPlayer(player);
-            return null == arena ? "" : null == arena.getTeam(player) ? ""  : arena.getTeam(player).getColor().chat();
+            ArenaSnapshot.TeamState team = getTeamState(getSnapshot(player), player);
+            return null == team ? "" : team.getTeam().getColor().chat();
         });
 
         placeholderManager.registerPlayerPlaceholder("%bw_prefix%", PrefixRefresh, this::getPrefix);
@@ -227,22 +310,22 @@ public class BoardManager implements IScoreboardService {
 
         placeholderManager.registerPlayerPlaceholder("%bw_scoreboard_title%", titleRefresh, tabPlayer -> {
             Player player = (Player) tabPlayer.getPlayer();
-            IArena arena = Arena.getArenaByPlayer(player);
+            ArenaSnapshot snapshot = getSnapshot(player);
             int i = tabPlayersTitle.getOrDefault(tabPlayer,0);
             // set sidebar lines based on game state or lobby
             List<String> lines = null;
             String titleLine;
-            if (null == arena) {
+            if (null == snapshot) {
                 if (BedWars.getServerType() != ServerType.SHARED) {
                     lines = Language.getList(player, Messages.SCOREBOARD_LOBBY);
                 }
             } else {
-                if (arena.getStatus() == GameState.waiting) {
-                    lines = Language.getScoreboard(player, "scoreboard." + arena.getGroup() + ".waiting", Messages.SCOREBOARD_DEFAULT_WAITING);
-                } else if (arena.getStatus() == GameState.starting) {
-                    lines = Language.getScoreboard(player, "scoreboard." + arena.getGroup() + ".starting", Messages.SCOREBOARD_DEFAULT_STARTING);
-                } else if (arena.getStatus() == GameState.playing || arena.getStatus() == GameState.restarting) {
-                    lines = Language.getScoreboard(player, "scoreboard." + arena.getGroup() + ".playing", Messages.SCOREBOARD_DEFAULT_PLAYING);
+                if (snapshot.getStatus() == GameState.waiting) {
+                    lines = Language.getScoreboard(player, "scoreboard." + snapshot.getGroup() + ".waiting", Messages.SCOREBOARD_DEFAULT_WAITING);
+                } else if (snapshot.getStatus() == GameState.starting) {
+                    lines = Language.getScoreboard(player, "scoreboard." + snapshot.getGroup() + ".starting", Messages.SCOREBOARD_DEFAULT_STARTING);
+                } else if (snapshot.getStatus() == GameState.playing || snapshot.getStatus() == GameState.restarting) {
+                    lines = Language.getScoreboard(player, "scoreboard." + snapshot.getGroup() + ".playing", Messages.SCOREBOARD_DEFAULT_PLAYING);
                 }
             }
 
@@ -262,11 +345,11 @@ public class BoardManager implements IScoreboardService {
 
         placeholderManager.registerPlayerPlaceholder("%bw_tab_health%", SuffixRefresh, tabPlayer -> {
             Player player = (Player) tabPlayer.getPlayer();
-            IArena arena = Arena.getArenaByPlayer(player);
+            ArenaSnapshot snapshot = getSnapshot(player);
             // set sidebar lines based on game state or lobby
             String line = null;
-            if (null != arena && null != arena.getStatus()) {
-                if (arena.getStatus() == GameState.playing || arena.getStatus() == GameState.restarting) {
+            if (null != snapshot && null != snapshot.getStatus()) {
+                if (snapshot.getStatus() == GameState.playing || snapshot.getStatus() == GameState.restarting) {
                     line = Language.getMsg((Player) tabPlayer.getPlayer(), Messages.FORMATTING_SCOREBOARD_HEALTH);
                 }
             }
@@ -374,50 +457,48 @@ public class BoardManager implements IScoreboardService {
      * @return formatted placeholder string with status. Can be NULL if no arena is found
      */
     private String getTeamPlaceholder(Player player, int teamNumber){
-        Arena arena = (Arena) Arena.getArenaByPlayer(player);
-        if (arena == null) return null;
-        Language language = Language.getPlayerLanguage(player);
-        String genericTeamFormat = language.m(Messages.FORMATTING_SCOREBOARD_TEAM_GENERIC);
-        ITeam team;
-        try {
-            team = arena.getTeams().get(teamNumber-1);
-        } catch (IndexOutOfBoundsException ignored){
+        ArenaSnapshot snapshot = getSnapshot(player);
+        if (snapshot == null) return null;
+        ArenaSnapshot.TeamState team = snapshot.getTeam(teamNumber - 1);
+        if (team == null) {
+            // skip line
             return null;
         }
-        String teamName = team.getDisplayName(language);
-        if (arena.getTeams().size() >= teamNumber) {
-            return genericTeamFormat
+        Language language = Language.getPlayerLanguage(player);
+        ArenaSnapshot.PlayerState state = snapshot.getPlayer(player.getUniqueId());
+        boolean ownTeam = state != null && state.getTeamIndex() == teamNumber - 1;
+        return snapshot.format("team_idx_" + teamNumber + "_" + language.getIso() + (ownTeam ? "_own" : ""), () -> {
+            String teamName = team.getTeam().getDisplayName(language);
+            return language.m(Messages.FORMATTING_SCOREBOARD_TEAM_GENERIC)
                     .replace("%bw_team_letter%", String.valueOf(teamName.length() != 0 ? teamName.charAt(0) : ""))
-                    .replace("%bw_team_color%", team.getColor().chat().toString())
+                    .replace("%bw_team_color%", team.getTeam().getColor().chat().toString())
                     .replace("%bw_team_name%", teamName)
-                    .replace("%bw_team_status%", getTeamStatus(team, player));
-        } else {
-            // skip line
-            return null;
-        }
+                    .replace("%bw_team_status%", getTeamStatus(team, language, ownTeam));
+        });
     }
 
     /**
      * Get the current status of a team. Alive/Dead/Num of players alive.
      *
      * @param currentTeam Target team to process
-     * @param player Target player for localization
+     * @param language Target language for localization
+     * @param ownTeam True if this is the team of the player
      * @return team status string
      */
-    private String getTeamStatus(ITeam currentTeam, Player player){
+    private String getTeamStatus(ArenaSnapshot.TeamState currentTeam, Language language, boolean ownTeam){
         String result;
         if (currentTeam.isBedDestroyed()) {
             if (currentTeam.getSize() > 0) {
-                result = getMsg(player, Messages.FORMATTING_SCOREBOARD_BED_DESTROYED)
+                result = language.m(Messages.FORMATTING_SCOREBOARD_BED_DESTROYED)
                         .replace("%bw_players_remaining%", String.valueOf(currentTeam.getSize()));
             } else {
-                result = getMsg(player, Messages.FORMATTING_SCOREBOARD_TEAM_ELIMINATED);
+                result = language.m(Messages.FORMATTING_SCOREBOARD_TEAM_ELIMINATED);
             }
         } else {
-            result = getMsg(player, Messages.FORMATTING_SCOREBOARD_TEAM_ALIVE);
+            result = language.m(Messages.FORMATTING_SCOREBOARD_TEAM_ALIVE);
         }
-        if (currentTeam.isMember(player)) {
-            result += getMsg(player, Messages.FORMATTING_SCOREBOARD_YOUR_TEAM);
+        if (ownTeam) {
+            result += language.m(Messages.FORMATTING_SCOREBOARD_YOUR_TEAM);
         }
         return result;
     }
@@ -429,16 +510,17 @@ public class BoardManager implements IScoreboardService {
 
     public String getPrefix(TabPlayer tabPlayer) {
         Player player = (Player) tabPlayer.getPlayer();
-        IArena arena = Arena.getArenaByPlayer(player);
+        ArenaSnapshot snapshot = getSnapshot(player);
         int currentIndex = tabPlayersPrefix.getOrDefault(tabPlayer, 0);
         List<String> fixList;
 
-        if (arena == null) {
+        if (snapshot == null) {
             fixList = Language.getList(player, Messages.FORMATTING_SCOREBOARD_TAB_PREFIX_LOBBY);
         } else {
-            GameState arenaStatus = arena.getStatus();
+            GameState arenaStatus = snapshot.getStatus();
+            ArenaSnapshot.PlayerState state = snapshot.getPlayer(player.getUniqueId());
 
-            if (arena.isSpectator(player)) {
+            if (state != null && state.isSpectator()) {
                 fixList = Language.getList(player, Messages.FORMATTING_SCOREBOARD_TAB_PREFIX_SPECTATOR);
             } else {
                 switch (arenaStatus) {
@@ -481,16 +563,17 @@ public class BoardManager implements IScoreboardService {
 
     public String getSuffix(TabPlayer tabPlayer) {
         Player player = (Player) tabPlayer.getPlayer();
-        IArena arena = Arena.getArenaByPlayer(player);
+        ArenaSnapshot snapshot = getSnapshot(player);
         int currentIndex = tabPlayersSuffix.getOrDefault(tabPlayer, 0);
         List<String> fixList;
 
-        if (arena == null) {
+        if (snapshot == null) {
             fixList = Language.getList(player, Messages.FORMATTING_SCOREBOARD_TAB_SUFFIX_LOBBY);
         } else {
-            GameState arenaStatus = arena.getStatus();
+            GameState arenaStatus = snapshot.getStatus();
+            ArenaSnapshot.PlayerState state = snapshot.getPlayer(player.getUniqueId());
 
-            if (arena.isSpectator(player)) {
+            if (state != null && state.isSpectator()) {
                 fixList = Language.getList(player, Messages.FORMATTING_SCOREBOARD_TAB_SUFFIX_SPECTATOR);
             } else {
                 switch (arenaStatus) {
@@ -519,76 +602,35 @@ public class BoardManager implements IScoreboardService {
 
     @NotNull
     private String getNextEventName(Player player) {
-        IArena arena = Arena.getArenaByPlayer(player);
-        if (arena == null) return "-";
-        String st = "-";
-        switch (arena.getNextEvent()) {
-            case EMERALD_GENERATOR_TIER_II:
-                st = getMsg(player, Messages.NEXT_EVENT_EMERALD_UPGRADE_II);
-                break;
-            case EMERALD_GENERATOR_TIER_III:
-                st = getMsg(player, Messages.NEXT_EVENT_EMERALD_UPGRADE_III);
-                break;
-            case DIAMOND_GENERATOR_TIER_II:
-                st = getMsg(player, Messages.NEXT_EVENT_DIAMOND_UPGRADE_II);
-                break;
-            case DIAMOND_GENERATOR_TIER_III:
-                st = getMsg(player, Messages.NEXT_EVENT_DIAMOND_UPGRADE_III);
-                break;
-            case GAME_END:
-                st = getMsg(player, Messages.NEXT_EVENT_GAME_END);
-                break;
-            case BEDS_DESTROY:
-                st = getMsg(player, Messages.NEXT_EVENT_BEDS_DESTROY);
-                break;
-            case ENDER_DRAGON:
-                st = getMsg(player, Messages.NEXT_EVENT_DRAGON_SPAWN);
-                break;
-        }
-
-        return st;
-    }
-
-    @NotNull
-    private String getNextEventTime(Arena arena, Player player) {
-        if (arena == null) return getNextEventDateFormat(player).format((0L));
-        long time = 0L;
-        PlayingTask playingTask = arena.getPlayingTask();
-        switch (arena.getNextEvent()) {
-            case EMERALD_GENERATOR_TIER_II:
-            case EMERALD_GENERATOR_TIER_III:
-                time = (arena.upgradeEmeraldsCount) * 1000L;
-                break;
-            case DIAMOND_GENERATOR_TIER_II:
-            case DIAMOND_GENERATOR_TIER_III:
-                time = (arena.upgradeDiamondsCount) * 1000L;
-                break;
-            case GAME_END:
-                if (null == playingTask) {
-                    break;
-                }
-                time = (playingTask.getGameEndCountdown()) * 1000L;
-                break;
-            case BEDS_DESTROY:
-                if (null == playingTask) {
-                    break;
-                }
-                time = (arena.getPlayingTask().getBedsDestroyCountdown()) * 1000L;
-                break;
-            case ENDER_DRAGON:
-                if (null == playingTask) {
-                    break;
-                }
-                time = (arena.getPlayingTask().getDragonSpawnCountdown()) * 1000L;
-                break;
-        }
-        return getNextEventDateFormat(player).format(new Date(time));
+        ArenaSnapshot snapshot = getSnapshot(player);
+        if (snapshot == null) return "-";
+        Language language = Language.getPlayerLanguage(player);
+        return snapshot.format("next_event_" + language.getIso(), () -> {
+            switch (snapshot.getNextEvent()) {
+                case EMERALD_GENERATOR_TIER_II:
+                    return language.m(Messages.NEXT_EVENT_EMERALD_UPGRADE_II);
+                case EMERALD_GENERATOR_TIER_III:
+                    return language.m(Messages.NEXT_EVENT_EMERALD_UPGRADE_III);
+                case DIAMOND_GENERATOR_TIER_II:
+                    return language.m(Messages.NEXT_EVENT_DIAMOND_UPGRADE_II);
+                case DIAMOND_GENERATOR_TIER_III:
+                    return language.m(Messages.NEXT_EVENT_DIAMOND_UPGRADE_III);
+                case GAME_END:
+                    return language.m(Messages.NEXT_EVENT_GAME_END);
+                case BEDS_DESTROY:
+                    return language.m(Messages.NEXT_EVENT_BEDS_DESTROY);
+                case ENDER_DRAGON:
+                    return language.m(Messages.NEXT_EVENT_DRAGON_SPAWN);
+                default:
+                    return "-";
+            }
+        });
     }
 
     private int getOnlinePlayers(Player player){
-        IArena arena = Arena.getArenaByPlayer(player);
-        if (arena == null) return Bukkit.getOnlinePlayers().size();
-        return arena.getPlayers().size();
+        ArenaSnapshot snapshot = getSnapshot(player);
+        if (snapshot == null) return Bukkit.getOnlinePlayers().size();
+        return snapshot.getPlayerCount();
     }
 
     private void setHeaderFooter(TabPlayer player, IArena arena) {
@@ -681,4 +723,14 @@ public class BoardManager implements IScoreboardService {
     public @Nullable Scoreboard getScoreboard(@NotNull Player player) {
         return scoreboardManager.getActiveScoreboard(Objects.requireNonNull(TabAPI.getInstance().getPlayer(player.getUniqueId())));
     }
+
+    private static final class CachedDate {
+        private final long second;
+        private final String value;
+
+        private CachedDate(long second, String value) {
+            this.second = second;
+            this.value = value;
+        }
+    }
 }
\ No newline at end of file
@@ -31,6 +31,8 @@ import com.tomkeuper.bedwars.api.events.player.PlayerLeaveArenaEvent;
 import com.tomkeuper.bedwars.api.events.player.PlayerStatChangeEvent;
 import com.tomkeuper.bedwars.api.stats.IPlayerStats;
 import com.tomkeuper.bedwars.arena.Arena;
+import com.tomkeuper.bedwars.database.PlayerProfileCache;
+import com.tomkeuper.bedwars.database.StatsWriteQueue;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -48,10 +50,11 @@ public class StatsListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onAsyncPreLoginEvent(AsyncPlayerPreLoginEvent event) {
         if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
-            // Do nothing if login fails
+            // Drop the profile if it was loaded by an earlier listener
+            PlayerProfileCache.getInstance().remove(event.getUniqueId());
             return;
         }
-        IPlayerStats stats = BedWars.getRemoteDatabase().fetchStats(event.getUniqueId());
+        IPlayerStats stats = PlayerProfileCache.getInstance().load(event.getUniqueId()).getStats();
         stats.setName(event.getName());
         BedWars.getStatsManager().put(event.getUniqueId(), stats);
     }
@@ -61,6 +64,7 @@ public class StatsListener implements Listener {
         if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
             // Prevent memory leak if login fails
             BedWars.getStatsManager().remove(event.getPlayer().getUniqueId());
+            PlayerProfileCache.getInstance().remove(event.getPlayer().getUniqueId());
         }
     }
 
@@ -242,11 +246,13 @@ public class StatsListener implements Listener {
         }
 
         //save or replace stats for player
-        Bukkit.getScheduler().runTaskAsynchronously(BedWars.plugin, () -> BedWars.getRemoteDatabase().saveStats(playerStats));
+        StatsWriteQueue.getInstance().enqueue(playerStats);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onQuit(PlayerQuitEvent event) {
         BedWars.getStatsManager().remove(event.getPlayer().getUniqueId());
+        PlayerProfileCache.getInstance().remove(event.getPlayer().getUniqueId());
+        StatsWriteQueue.getInstance().flushPlayer(event.getPlayer().getUniqueId());
     }
 }
@@ -29,6 +29,7 @@ import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.party.Party;
 import com.tomkeuper.bedwars.api.stats.IPlayerStats;
 import com.tomkeuper.bedwars.arena.Arena;
+import com.tomkeuper.bedwars.arena.ArenaRegistry;
 import com.tomkeuper.bedwars.commands.shout.ShoutCommand;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.Bukkit;
@@ -309,7 +310,7 @@ public class PAPISupport extends PlaceholderExpansion {
                 response = String.valueOf(Arena.getArenaByPlayer().size());
                 break;
             case "current_arenas":
-                response = String.valueOf(Arena.getArenas().size());
+                response = String.valueOf(ArenaRegistry.getInstance().getArenas().size());
                 break;
             case "current_playing":
                 if (a != null) {
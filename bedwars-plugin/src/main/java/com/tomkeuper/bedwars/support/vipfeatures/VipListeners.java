@@ -31,7 +31,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.util.Vector;
 
 public class VipListeners implements Listener {
 
@@ -69,7 +68,7 @@ public class VipListeners implements Listener {
                     }
                 }
             }
-            a.getPlaced().add(new Vector(e.getLocation().getBlockX(), e.getLocation().getBlockY(),e.getLocation().getBlockZ()));
+            a.addPlacedBlock(e.getLocation().getBlock());
         }
     }
 }
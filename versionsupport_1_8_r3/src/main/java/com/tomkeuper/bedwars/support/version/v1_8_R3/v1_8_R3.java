@@ -27,9 +27,11 @@ import com.tomkeuper.bedwars.api.arena.team.TeamColor;
 import com.tomkeuper.bedwars.api.entity.Despawnable;
 import com.tomkeuper.bedwars.api.events.player.PlayerKillEvent;
 import com.tomkeuper.bedwars.api.exceptions.InvalidEffectException;
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.server.VersionSupport;
+import com.tomkeuper.bedwars.support.version.common.ItemHandle;
 import com.tomkeuper.bedwars.support.version.common.VersionCommon;
 import net.minecraft.server.v1_8_R3.*;
 import org.bukkit.Color;
@@ -136,6 +138,11 @@ public class v1_8_R3 extends VersionSupport {
 
     }
 
+    @Override
+    public PacketHologram createPacketHologram(Location location, String text) {
+        return new ArmorStandHologram(location, text);
+    }
+
     @Override
     public boolean isArmor(ItemStack itemStack) {
         if (CraftItemStack.asNMSCopy(itemStack) == null) return false;
@@ -450,14 +457,14 @@ public class v1_8_R3 extends VersionSupport {
 
     @Override
     public String getTag(ItemStack itemStack, String key) {
-        net.minecraft.server.v1_8_R3.ItemStack i = CraftItemStack.asNMSCopy(itemStack);
+        net.minecraft.server.v1_8_R3.ItemStack i = readItem(itemStack);
         NBTTagCompound tag = i.getTag();
         return tag == null ? null : tag.hasKey(key) ? tag.getString(key) : null;
     }
 
     @Override
     public boolean isCustomBedWarsItem(org.bukkit.inventory.ItemStack i) {
-        net.minecraft.server.v1_8_R3.ItemStack itemStack = CraftItemStack.asNMSCopy(i);
+        net.minecraft.server.v1_8_R3.ItemStack itemStack = readItem(i);
         if (itemStack == null) return false;
         NBTTagCompound tag = itemStack.getTag();
         if (tag == null) return false;
@@ -466,7 +473,7 @@ public class v1_8_R3 extends VersionSupport {
 
     @Override
     public String getCustomData(org.bukkit.inventory.ItemStack i) {
-        net.minecraft.server.v1_8_R3.ItemStack itemStack = CraftItemStack.asNMSCopy(i);
+        net.minecraft.server.v1_8_R3.ItemStack itemStack = readItem(i);
         NBTTagCompound tag = itemStack.getTag();
         if (tag == null) return "";
         return tag.getString("BedWars2023");
@@ -613,7 +620,7 @@ public class v1_8_R3 extends VersionSupport {
 
     @Override
     public String getShopUpgradeIdentifier(org.bukkit.inventory.ItemStack itemStack) {
-        net.minecraft.server.v1_8_R3.ItemStack i = CraftItemStack.asNMSCopy(itemStack);
+        net.minecraft.server.v1_8_R3.ItemStack i = readItem(itemStack);
         NBTTagCompound tag = i.getTag();
         return tag == null ? "" : tag.hasKey("tierIdentifier") ? tag.getString("tierIdentifier") : "";
     }
@@ -797,4 +804,12 @@ public class v1_8_R3 extends VersionSupport {
         PacketPlayOutWorldParticles pwp = new PacketPlayOutWorldParticles(EnumParticle.VILLAGER_HAPPY, true, (float) location.getX(), (float) location.getY(), (float) location.getZ(), (float) 0, (float) 0, (float) 0, (float) 0, 1);
         ((CraftPlayer) player).getHandle().playerConnection.sendPacket(pwp);
     }
+
+    /**
+     * Get an item to read its tag. Inventory items are read from their handle instead of being copied.
+     */
+    private static net.minecraft.server.v1_8_R3.ItemStack readItem(ItemStack itemStack) {
+        Object handle = ItemHandle.get(itemStack);
+        return handle instanceof net.minecraft.server.v1_8_R3.ItemStack ? (net.minecraft.server.v1_8_R3.ItemStack) handle : CraftItemStack.asNMSCopy(itemStack);
+    }
 }
@@ -0,0 +1,47 @@
+package com.tomkeuper.bedwars.support.version.common;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+/**
+ * Access to the NMS stack backing a CraftItemStack.
+ * Items taken from an inventory are CraftItemStack mirrors, so their tags can be read from the handle
+ * instead of converting the whole stack with {@code CraftItemStack.asNMSCopy} on every check.
+ * The handle is the live item: it must only be read.
+ */
+public final class ItemHandle {
+
+    private static final ClassValue<Optional<Field>> HANDLE_FIELD = new ClassValue<Optional<Field>>() {
+        @Override
+        protected Optional<Field> computeValue(Class<?> type) {
+            try {
+                Field field = type.getDeclaredField("handle");
+                field.setAccessible(true);
+                return Optional.of(field);
+            } catch (NoSuchFieldException | RuntimeException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    private ItemHandle() {
+    }
+
+    /**
+     * Get the NMS stack behind a CraftItemStack.
+     *
+     * @return null if the stack is a plain Bukkit stack or has no handle, in which case a copy is needed.
+     */
+    public static Object get(ItemStack itemStack) {
+        if (itemStack == null || itemStack.getClass() == ItemStack.class) return null;
+        Field field = HANDLE_FIELD.get(itemStack.getClass()).orElse(null);
+        if (field == null) return null;
+        try {
+            return field.get(itemStack);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
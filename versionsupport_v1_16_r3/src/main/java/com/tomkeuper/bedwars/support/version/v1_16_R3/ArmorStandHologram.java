@@ -0,0 +1,57 @@
+package com.tomkeuper.bedwars.support.version.v1_16_R3;
+
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
+import net.minecraft.server.v1_16_R3.EntityArmorStand;
+import net.minecraft.server.v1_16_R3.Packet;
+import net.minecraft.server.v1_16_R3.PacketPlayOutEntityDestroy;
+import net.minecraft.server.v1_16_R3.PacketPlayOutEntityMetadata;
+import net.minecraft.server.v1_16_R3.PacketPlayOutSpawnEntityLiving;
+import org.bukkit.Location;
+import org.bukkit.craftbukkit.v1_16_R3.CraftWorld;
+import org.bukkit.craftbukkit.v1_16_R3.entity.CraftPlayer;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+
+/**
+ * Hologram line backed by an armor stand which is never added to the world.
+ */
+public class ArmorStandHologram extends PacketHologram {
+
+    private final EntityArmorStand entity;
+
+    public ArmorStandHologram(Location location, String text) {
+        super(location, text);
+        entity = new EntityArmorStand(((CraftWorld) location.getWorld()).getHandle(), location.getX(), location.getY(), location.getZ());
+        ArmorStand stand = (ArmorStand) entity.getBukkitEntity();
+        stand.setGravity(false);
+        stand.setVisible(false);
+        stand.setMarker(true);
+        stand.setCustomName(text);
+        stand.setCustomNameVisible(true);
+    }
+
+    @Override
+    protected void sendSpawn(Player player) {
+        sendPacket(player, new PacketPlayOutSpawnEntityLiving(entity));
+        sendMetadata(player);
+    }
+
+    @Override
+    protected void sendMetadata(Player player) {
+        sendPacket(player, new PacketPlayOutEntityMetadata(entity.getId(), entity.getDataWatcher(), true));
+    }
+
+    @Override
+    protected void sendDestroy(Player player) {
+        sendPacket(player, new PacketPlayOutEntityDestroy(entity.getId()));
+    }
+
+    @Override
+    protected void applyText(String text) {
+        entity.getBukkitEntity().setCustomName(text);
+    }
+
+    private static void sendPacket(Player player, Packet<?> packet) {
+        ((CraftPlayer) player).getHandle().playerConnection.sendPacket(packet);
+    }
+}
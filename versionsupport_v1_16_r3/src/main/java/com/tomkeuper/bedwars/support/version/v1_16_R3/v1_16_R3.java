@@ -29,9 +29,11 @@ import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.arena.team.TeamColor;
 import com.tomkeuper.bedwars.api.entity.Despawnable;
 import com.tomkeuper.bedwars.api.events.player.PlayerKillEvent;
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.server.VersionSupport;
+import com.tomkeuper.bedwars.support.version.common.ItemHandle;
 import com.tomkeuper.bedwars.support.version.common.VersionCommon;
 import net.minecraft.server.v1_16_R3.*;
 import org.bukkit.Color;
@@ -89,7 +91,7 @@ public class v1_16_R3 extends VersionSupport {
 
     @Override
     public String getTag(org.bukkit.inventory.ItemStack itemStack, String key) {
-        net.minecraft.server.v1_16_R3.ItemStack i = CraftItemStack.asNMSCopy(itemStack);
+        net.minecraft.server.v1_16_R3.ItemStack i = readItem(itemStack);
         NBTTagCompound tag = i.getTag();
         return tag == null ? null : tag.hasKey(key) ? tag.getString(key) : null;
     }
@@ -135,6 +137,11 @@ public class v1_16_R3 extends VersionSupport {
 
     }
 
+    @Override
+    public PacketHologram createPacketHologram(Location location, String text) {
+        return new ArmorStandHologram(location, text);
+    }
+
     @Override
     public void minusAmount(Player p, org.bukkit.inventory.ItemStack i, int amount) {
         if (i.getAmount() - amount <= 0) {
@@ -403,7 +410,7 @@ public class v1_16_R3 extends VersionSupport {
 
     @Override
     public boolean isCustomBedWarsItem(org.bukkit.inventory.ItemStack i) {
-        ItemStack itemStack = CraftItemStack.asNMSCopy(i);
+        ItemStack itemStack = readItem(i);
         NBTTagCompound tag = itemStack.getTag();
         if (tag == null) return false;
         return tag.hasKey("BedWars2023");
@@ -411,7 +418,7 @@ public class v1_16_R3 extends VersionSupport {
 
     @Override
     public String getCustomData(org.bukkit.inventory.ItemStack i) {
-        ItemStack itemStack = CraftItemStack.asNMSCopy(i);
+        ItemStack itemStack = readItem(i);
         NBTTagCompound tag = itemStack.getTag();
         if (tag == null) return "";
         return tag.getString("BedWars2023");
@@ -533,7 +540,7 @@ public class v1_16_R3 extends VersionSupport {
 
     @Override
     public String getShopUpgradeIdentifier(org.bukkit.inventory.ItemStack itemStack) {
-        ItemStack i = CraftItemStack.asNMSCopy(itemStack);
+        ItemStack i = readItem(itemStack);
         NBTTagCompound tag = i.getTag();
         return tag == null ? "null" : tag.hasKey("tierIdentifier") ? tag.getString("tierIdentifier") : "null";
     }
@@ -748,4 +755,12 @@ public class v1_16_R3 extends VersionSupport {
     public void playVillagerEffect(@NotNull Player player, Location location){
         player.spawnParticle(org.bukkit.Particle.VILLAGER_HAPPY, location, 1);
     }
+
+    /**
+     * Get an item to read its tag. Inventory items are read from their handle instead of being copied.
+     */
+    private static net.minecraft.server.v1_16_R3.ItemStack readItem(org.bukkit.inventory.ItemStack itemStack) {
+        Object handle = ItemHandle.get(itemStack);
+        return handle instanceof net.minecraft.server.v1_16_R3.ItemStack ? (net.minecraft.server.v1_16_R3.ItemStack) handle : CraftItemStack.asNMSCopy(itemStack);
+    }
 }
@@ -26,9 +26,11 @@ import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.arena.team.TeamColor;
 import com.tomkeuper.bedwars.api.entity.Despawnable;
 import com.tomkeuper.bedwars.api.events.player.PlayerKillEvent;
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.server.VersionSupport;
+import com.tomkeuper.bedwars.support.version.common.ItemHandle;
 import com.tomkeuper.bedwars.support.version.common.VersionCommon;
 import com.mojang.datafixers.DataFixUtils;
 import com.mojang.datafixers.types.Type;
@@ -113,7 +115,7 @@ public class v1_17_R1 extends VersionSupport {
 
     @Override
     public String getTag(org.bukkit.inventory.ItemStack itemStack, String key) {
-        ItemStack i = CraftItemStack.asNMSCopy(itemStack);
+        ItemStack i = readItem(itemStack);
         NBTTagCompound tag = i.getTag();
         return tag == null ? null : tag.hasKey(key) ? tag.getString(key) : null;
     }
@@ -159,6 +161,11 @@ public class v1_17_R1 extends VersionSupport {
 
     }
 
+    @Override
+    public PacketHologram createPacketHologram(Location location, String text) {
+        return ArmorStandHologram.create(location, text);
+    }
+
     @Override
     public void minusAmount(Player p, org.bukkit.inventory.ItemStack i, int amount) {
         if (i.getAmount() - amount <= 0) {
@@ -429,7 +436,7 @@ public class v1_17_R1 extends VersionSupport {
 
     @Override
     public boolean isCustomBedWarsItem(org.bukkit.inventory.ItemStack i) {
-        ItemStack itemStack = CraftItemStack.asNMSCopy(i);
+        ItemStack itemStack = readItem(i);
         NBTTagCompound tag = itemStack.getTag();
         if (tag == null) return false;
         return tag.hasKey("BedWars2023");
@@ -437,7 +444,7 @@ public class v1_17_R1 extends VersionSupport {
 
     @Override
     public String getCustomData(org.bukkit.inventory.ItemStack i) {
-        ItemStack itemStack = CraftItemStack.asNMSCopy(i);
+        ItemStack itemStack = readItem(i);
         NBTTagCompound tag = itemStack.getTag();
         if (tag == null) return "";
         return tag.getString("BedWars2023");
@@ -560,7 +567,7 @@ public class v1_17_R1 extends VersionSupport {
 
     @Override
     public String getShopUpgradeIdentifier(org.bukkit.inventory.ItemStack itemStack) {
-        ItemStack i = CraftItemStack.asNMSCopy(itemStack);
+        ItemStack i = readItem(itemStack);
         NBTTagCompound tag = i.getTag();
         return tag == null ? "null" : tag.hasKey("tierIdentifier") ? tag.getString("tierIdentifier") : "null";
     }
@@ -780,4 +787,12 @@ public class v1_17_R1 extends VersionSupport {
     public void playVillagerEffect(Player player, Location location){
         player.spawnParticle(Particle.VILLAGER_HAPPY, location, 1);
     }
+
+    /**
+     * Get an item to read its tag. Inventory items are read from their handle instead of being copied.
+     */
+    private static ItemStack readItem(org.bukkit.inventory.ItemStack itemStack) {
+        Object handle = ItemHandle.get(itemStack);
+        return handle instanceof ItemStack ? (ItemStack) handle : CraftItemStack.asNMSCopy(itemStack);
+    }
 }
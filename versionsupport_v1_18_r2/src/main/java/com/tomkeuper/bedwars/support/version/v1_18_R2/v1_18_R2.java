@@ -28,9 +28,11 @@ import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.arena.team.TeamColor;
 import com.tomkeuper.bedwars.api.entity.Despawnable;
 import com.tomkeuper.bedwars.api.events.player.PlayerKillEvent;
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.server.VersionSupport;
+import com.tomkeuper.bedwars.support.version.common.ItemHandle;
 import com.tomkeuper.bedwars.support.version.common.VersionCommon;
 import net.minecraft.core.particles.ParticleParamRedstone;
 import net.minecraft.nbt.NBTTagCompound;
@@ -105,7 +107,7 @@ public class v1_18_R2 extends VersionSupport {
 
     @Override
     public String getTag(org.bukkit.inventory.ItemStack itemStack, String key) {
-        ItemStack i = CraftItemStack.asNMSCopy(itemStack);
+        ItemStack i = readItem(itemStack);
         NBTTagCompound tag = i.t();
         return tag == null ? null : tag.e(key) ? tag.l(key) : null;
     }
@@ -151,6 +153,11 @@ public class v1_18_R2 extends VersionSupport {
 
     }
 
+    @Override
+    public PacketHologram createPacketHologram(Location location, String text) {
+        return ArmorStandHologram.create(location, text);
+    }
+
     @Override
     public void minusAmount(Player p, org.bukkit.inventory.ItemStack i, int amount) {
         if (i.getAmount() - amount <= 0) {
@@ -412,7 +419,7 @@ public class v1_18_R2 extends VersionSupport {
 
     @Override
     public boolean isCustomBedWarsItem(org.bukkit.inventory.ItemStack i) {
-        ItemStack itemStack = CraftItemStack.asNMSCopy(i);
+        ItemStack itemStack = readItem(i);
         NBTTagCompound tag = itemStack.t();
         if (tag == null) return false;
         return tag.e("BedWars2023");
@@ -420,7 +427,7 @@ public class v1_18_R2 extends VersionSupport {
 
     @Override
     public String getCustomData(org.bukkit.inventory.ItemStack i) {
-        ItemStack itemStack = CraftItemStack.asNMSCopy(i);
+        ItemStack itemStack = readItem(i);
         NBTTagCompound tag = itemStack.t();
         if (tag == null) return "";
         return tag.l("BedWars2023");
@@ -542,7 +549,7 @@ public class v1_18_R2 extends VersionSupport {
 
     @Override
     public String getShopUpgradeIdentifier(org.bukkit.inventory.ItemStack itemStack) {
-        ItemStack i = CraftItemStack.asNMSCopy(itemStack);
+        ItemStack i = readItem(itemStack);
         NBTTagCompound tag = i.t();
         return tag == null ? "null" : tag.e("tierIdentifier") ? tag.l("tierIdentifier") : "null";
     }
@@ -750,4 +757,12 @@ public class v1_18_R2 extends VersionSupport {
     public void playVillagerEffect(@NotNull Player player, Location location){
         player.spawnParticle(Particle.VILLAGER_HAPPY, location, 1);
     }
+
+    /**
+     * Get an item to read its tag. Inventory items are read from their handle instead of being copied.
+     */
+    private static ItemStack readItem(org.bukkit.inventory.ItemStack itemStack) {
+        Object handle = ItemHandle.get(itemStack);
+        return handle instanceof ItemStack ? (ItemStack) handle : CraftItemStack.asNMSCopy(itemStack);
+    }
 }
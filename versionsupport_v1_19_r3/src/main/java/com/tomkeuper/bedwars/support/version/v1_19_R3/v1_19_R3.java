@@ -6,9 +6,11 @@ import com.tomkeuper.bedwars.api.arena.team.ITeam;
 import com.tomkeuper.bedwars.api.arena.team.TeamColor;
 import com.tomkeuper.bedwars.api.entity.Despawnable;
 import com.tomkeuper.bedwars.api.events.player.PlayerKillEvent;
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
 import com.tomkeuper.bedwars.api.language.Language;
 import com.tomkeuper.bedwars.api.language.Messages;
 import com.tomkeuper.bedwars.api.server.VersionSupport;
+import com.tomkeuper.bedwars.support.version.common.ItemHandle;
 import com.tomkeuper.bedwars.support.version.common.VersionCommon;
 import com.tomkeuper.bedwars.support.version.v1_19_R3.despawnable.DespawnableAttributes;
 import com.tomkeuper.bedwars.support.version.v1_19_R3.despawnable.DespawnableFactory;
@@ -86,7 +88,7 @@ public class v1_19_R3 extends VersionSupport {
 
     @Override
     public String getTag(org.bukkit.inventory.ItemStack itemStack, String key) {
-        var tag = getTag(itemStack);
+        var tag = readTag(itemStack);
         return tag == null ? null : tag.e(key) ? tag.l(key) : null;
     }
 
@@ -147,6 +149,11 @@ public class v1_19_R3 extends VersionSupport {
 
     }
 
+    @Override
+    public PacketHologram createPacketHologram(Location location, String text) {
+        return ArmorStandHologram.create(location, text);
+    }
+
     @Override
     public void minusAmount(Player p, org.bukkit.inventory.@NotNull ItemStack i, int amount) {
         if (i.getAmount() - amount <= 0) {
@@ -402,12 +409,14 @@ public class v1_19_R3 extends VersionSupport {
 
     @Override
     public boolean isCustomBedWarsItem(org.bukkit.inventory.ItemStack i) {
-        return getCreateTag(i).e(VersionSupport.PLUGIN_TAG_GENERIC_KEY);
+        var tag = readTag(i);
+        return tag != null && tag.e(VersionSupport.PLUGIN_TAG_GENERIC_KEY);
     }
 
     @Override
     public String getCustomData(org.bukkit.inventory.ItemStack i) {
-        return getCreateTag(i).l(VersionSupport.PLUGIN_TAG_GENERIC_KEY);
+        var tag = readTag(i);
+        return tag == null ? "" : tag.l(VersionSupport.PLUGIN_TAG_GENERIC_KEY);
     }
 
     @Override
@@ -527,8 +536,8 @@ public class v1_19_R3 extends VersionSupport {
 
     @Override
     public String getShopUpgradeIdentifier(org.bukkit.inventory.ItemStack itemStack) {
-        var tag = getCreateTag(itemStack);
-        return tag.e(VersionSupport.PLUGIN_TAG_TIER_KEY) ? tag.l(VersionSupport.PLUGIN_TAG_TIER_KEY) : "null";
+        var tag = readTag(itemStack);
+        return tag != null && tag.e(VersionSupport.PLUGIN_TAG_TIER_KEY) ? tag.l(VersionSupport.PLUGIN_TAG_TIER_KEY) : "null";
     }
 
     @Override
@@ -733,6 +742,14 @@ public class v1_19_R3 extends VersionSupport {
         return itemStack.u();
     }
 
+    /**
+     * Get the tag of an item for reading. Inventory items are read from their handle instead of being copied.
+     */
+    private @Nullable NBTTagCompound readTag(@NotNull org.bukkit.inventory.ItemStack itemStack) {
+        Object handle = ItemHandle.get(itemStack);
+        return handle instanceof ItemStack ? getTag((ItemStack) handle) : getTag(itemStack);
+    }
+
     private @NotNull NBTTagCompound initializeTag(org.bukkit.inventory.ItemStack itemStack) {
         var i = CraftItemStack.asNMSCopy(itemStack);
         if (null == i) {
@@ -0,0 +1,90 @@
+package com.tomkeuper.bedwars.support.version.v1_20_R1;
+
+import com.tomkeuper.bedwars.api.hologram.PacketHologram;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.PacketPlayOutEntityDestroy;
+import net.minecraft.network.protocol.game.PacketPlayOutEntityMetadata;
+import net.minecraft.network.protocol.game.PacketPlayOutSpawnEntity;
+import net.minecraft.network.syncher.DataWatcher;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.decoration.EntityArmorStand;
+import org.bukkit.Location;
+import org.bukkit.craftbukkit.v1_20_R1.CraftWorld;
+import org.bukkit.craftbukkit.v1_20_R1.entity.CraftPlayer;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Field;
+
+/**
+ * Hologram line backed by an armor stand which is never added to the world.
+ */
+public class ArmorStandHologram extends PacketHologram {
+
+    // the data watcher getter name changes between mappings, so it is looked up by type
+    private static final Field DATA_WATCHER = findDataWatcherField();
+
+    private final EntityArmorStand entity;
+    private final int entityId;
+    private final DataWatcher dataWatcher;
+
+    private ArmorStandHologram(Location location, String text) throws IllegalAccessException {
+        super(location, text);
+        entity = new EntityArmorStand(((CraftWorld) location.getWorld()).getHandle(), location.getX(), location.getY(), location.getZ());
+        ArmorStand stand = (ArmorStand) entity.getBukkitEntity();
+        stand.setGravity(false);
+        stand.setVisible(false);
+        stand.setMarker(true);
+        stand.setCustomName(text);
+        stand.setCustomNameVisible(true);
+        entityId = stand.getEntityId();
+        dataWatcher = (DataWatcher) DATA_WATCHER.get(entity);
+    }
+
+    /**
+     * @return null if the entity data watcher could not be accessed.
+     */
+    public static ArmorStandHologram create(Location location, String text) {
+        if (DATA_WATCHER == null) return null;
+        try {
+            return new ArmorStandHologram(location, text);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void sendSpawn(Player player) {
+        sendPacket(player, new PacketPlayOutSpawnEntity(entity));
+        sendMetadata(player);
+    }
+
+    @Override
+    protected void sendMetadata(Player player) {
+        sendPacket(player, new PacketPlayOutEntityMetadata(entityId, dataWatcher.c()));
+    }
+
+    @Override
+    protected void sendDestroy(Player player) {
+        sendPacket(player, new PacketPlayOutEntityDestroy(entityId));
+    }
+
+    @Override
+    protected void applyText(String text) {
+        entity.getBukkitEntity().setCustomName(text);
+    }
+
+    private static void sendPacket(Player player, Packet<?> packet) {
+        ((CraftPlayer) player).getHandle().c.a(packet);
+    }
+
+    private static Field findDataWatcherField() {
+        for (Field field : Entity.class.getDeclaredFields()) {
+            if (DataWatcher.class.isAssignableFrom(field.getType())) {
+                field.setAccessible(true);
+                return field;
+            }
+        }
+        return null;
+    }
+}